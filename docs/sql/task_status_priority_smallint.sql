@@ -0,0 +1,49 @@
+-- Converts tasks.status / tasks.priority from free-form VARCHAR to the
+-- SMALLINT codes written by TaskStatusConverter / TaskPriorityConverter.
+-- The codes must match TaskStatus / TaskPriority:
+--   status:   TODO = 0, IN_PROGRESS = 1, DONE = 2
+--   priority: LOW = 0,  MEDIUM = 1,      HIGH = 2
+-- Legacy values are matched case-insensitively, with '-' or ' ' for '_'
+-- (the same rules as TaskStatus.fromValue). Anything else is left NULL,
+-- and the NOT NULL step below fails, so unknown values must be fixed by
+-- hand before the migration can finish.
+--
+-- Not needed for the default create-drop H2 schema, and the project has no
+-- migration tool, so nothing runs this automatically. To upgrade a database
+-- that still has the old VARCHAR columns, once:
+--   1. stop the application and back the database up;
+--   2. fix every row this returns (values the script does not recognize):
+--        SELECT id, status, priority FROM tasks
+--        WHERE status IS NULL OR priority IS NULL
+--           OR REPLACE(REPLACE(UPPER(TRIM(status)), '-', '_'), ' ', '_') NOT IN ('TODO', 'IN_PROGRESS', 'DONE')
+--           OR REPLACE(REPLACE(UPPER(TRIM(priority)), '-', '_'), ' ', '_') NOT IN ('LOW', 'MEDIUM', 'HIGH');
+--   3. run this file in one session, e.g. for H2:
+--        java -cp h2.jar org.h2.tools.RunScript -url <jdbc-url> -user <user> \
+--             -script docs/sql/task_status_priority_smallint.sql
+--   4. start the new version (ddl-auto must not be create/create-drop there).
+
+ALTER TABLE tasks ADD COLUMN status_code SMALLINT;
+ALTER TABLE tasks ADD COLUMN priority_code SMALLINT;
+
+UPDATE tasks SET status_code = CASE REPLACE(REPLACE(UPPER(TRIM(status)), '-', '_'), ' ', '_')
+        WHEN 'TODO' THEN 0
+        WHEN 'IN_PROGRESS' THEN 1
+        WHEN 'DONE' THEN 2
+    END,
+    priority_code = CASE REPLACE(REPLACE(UPPER(TRIM(priority)), '-', '_'), ' ', '_')
+        WHEN 'LOW' THEN 0
+        WHEN 'MEDIUM' THEN 1
+        WHEN 'HIGH' THEN 2
+    END;
+
+-- Fails here if any row had an unrecognized value:
+--   SELECT id, status, priority FROM tasks WHERE status_code IS NULL OR priority_code IS NULL;
+ALTER TABLE tasks ALTER COLUMN status_code SET NOT NULL;
+ALTER TABLE tasks ALTER COLUMN priority_code SET NOT NULL;
+
+ALTER TABLE tasks DROP COLUMN status;
+ALTER TABLE tasks DROP COLUMN priority;
+ALTER TABLE tasks RENAME COLUMN status_code TO status;
+ALTER TABLE tasks RENAME COLUMN priority_code TO priority;
+
+CREATE INDEX idx_tasks_status_priority ON tasks (status, priority);
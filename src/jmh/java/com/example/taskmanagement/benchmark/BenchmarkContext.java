@@ -0,0 +1,120 @@
+package com.example.taskmanagement.benchmark;
+
+
+import com.example.taskmanagement.TaskmanagementApplication;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskStatus;
+import com.example.taskmanagement.event.TaskWriteReplayer;
+import com.example.taskmanagement.seed.DatasetGenerator;
+import com.example.taskmanagement.seed.DatasetSpec;
+import com.example.taskmanagement.seed.DatasetSummary;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Boots the application (no web server) against a private in-memory H2
+// database and seeds it through DatasetGenerator with a fixed seed, so every
+// fork of every benchmark measures the same data.
+public class BenchmarkContext implements AutoCloseable {
+
+    static final TaskStatus[] STATUSES = TaskStatus.values();
+    static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private static final int USERS = 50;
+    private static final int TAGS = 20;
+    private static final int MAX_TAGS_PER_TASK = 3;
+    private static final long SEED = 42L;
+
+    private final ConfigurableApplicationContext context;
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<String> tagNames = new ArrayList<>();
+
+    private BenchmarkContext(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static BenchmarkContext start(int taskCount) {
+        return start(taskCount, WebApplicationType.NONE);
+    }
+
+    // With the embedded server on a random port; extra properties override
+    // the defaults (e.g. spring.threads.virtual.enabled)
+    public static BenchmarkContext startWeb(int taskCount, String... properties) {
+        return start(taskCount, WebApplicationType.SERVLET, properties);
+    }
+
+    private static BenchmarkContext start(int taskCount, WebApplicationType type, String... properties) {
+        // Command-line arguments, not builder properties(): those are only
+        // defaults, and application.properties would win over them
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:bench;LOCK_TIMEOUT=10000",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--server.port=0",
+                // Journal files would outlive the fork; benchmarks opt in explicitly
+                "--app.audit.enabled=false",
+                "--logging.level.root=WARN"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskmanagementApplication.class)
+                .web(type)
+                .run(args.toArray(String[]::new));
+        BenchmarkContext bench = new BenchmarkContext(context);
+        bench.seed(taskCount);
+        return bench;
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    public List<Long> getUserIds() {
+        return userIds;
+    }
+
+    public List<String> getTagNames() {
+        return tagNames;
+    }
+
+    // Same generator as the "seed" profile (Zipf-skewed users and tags), then
+    // the in-memory indexes are rebuilt since the JDBC load bypasses them
+    private void seed(int taskCount) {
+        DatasetSpec spec = new DatasetSpec();
+        spec.setUsers(USERS);
+        spec.setTags(TAGS);
+        spec.setTasks(taskCount);
+        spec.setMaxTagsPerTask(MAX_TAGS_PER_TASK);
+        spec.setSeed(SEED);
+        DatasetSummary summary = getBean(DatasetGenerator.class).generate(spec);
+        userIds.addAll(summary.getUserIds());
+        tagNames.addAll(summary.getTagNames());
+        getBean(TaskWriteReplayer.class).replayAll();
+    }
+
+    static Task randomTask(Random random) {
+        Task task = new Task();
+        task.setTitle(word(random) + " " + word(random));
+        task.setDescription("Benchmark task about the " + word(random));
+        task.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+        task.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+        return task;
+    }
+
+    private static String word(Random random) {
+        return DatasetGenerator.TITLE_WORDS[random.nextInt(DatasetGenerator.TITLE_WORDS.length)];
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
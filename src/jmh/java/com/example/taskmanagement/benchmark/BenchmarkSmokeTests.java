@@ -0,0 +1,71 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.jdbc.AdmissionControlDataSource;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.core.env.Environment;
+import javax.sql.DataSource;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs every benchmark once, briefly, against a small dataset so a broken
+// benchmark fails `mvn -Pbenchmark test` instead of a long measurement run.
+// Each benchmark still gets its own forked JVM (and its own application
+// context), exactly as in a real run.
+class BenchmarkSmokeTests {
+
+	@Test
+	void everyBenchmarkRunsAndReportsAScore() throws Exception {
+		Options options = new OptionsBuilder()
+				.include(".*Benchmark")
+				.param("datasetSize", "300")
+				.param("filters", "user_tag", "keyword")
+				.param("batchSize", "10")
+				.param("hotSetSize", "8")
+				.param("pageSize", "20")
+				.warmupIterations(0)
+				.measurementIterations(1)
+				.measurementTime(TimeValue.milliseconds(200))
+				.threads(2)
+				.forks(1)
+				.shouldFailOnError(true)
+				.build();
+
+		Collection<RunResult> results = new Runner(options).run();
+
+		assertThat(results).extracting(result -> result.getParams().getBenchmark())
+				.contains(
+						SearchBenchmark.class.getName() + ".searchTasks",
+						SearchBenchmark.class.getName() + ".searchTaskSummaries",
+						BulkInsertBenchmark.class.getName() + ".createMultipleTasks",
+						BulkInsertBenchmark.class.getName() + ".createTasksInBulk",
+						OptimisticLockBenchmark.class.getName() + ".updateTaskWithOptimisticLock",
+						SerializationBenchmark.class.getName() + ".serializePage");
+		assertThat(results).allSatisfy(result ->
+				assertThat(result.getPrimaryResult().getScore()).isPositive());
+	}
+
+	// The benchmark settings must win over application.properties
+	@Test
+	void contextOverridesTheApplicationDefaults() {
+		try (BenchmarkContext context = BenchmarkContext.start(20)) {
+			Environment environment = context.getBean(Environment.class);
+			assertThat(environment.getProperty("spring.datasource.url")).startsWith("jdbc:h2:mem:bench");
+			assertThat(environment.getProperty("spring.jpa.show-sql")).isEqualTo("false");
+			assertThat(environment.getProperty("app.audit.enabled")).isEqualTo("false");
+		}
+	}
+
+	@Test
+	void webContextAppliesTheCallersProperties() {
+		try (BenchmarkContext context = BenchmarkContext.startWeb(20, "spring.threads.virtual.enabled=true")) {
+			assertThat(context.getBean(DataSource.class)).isInstanceOf(AdmissionControlDataSource.class);
+			assertThat(context.getBaseUrl()).doesNotEndWith(":null");
+		}
+	}
+}
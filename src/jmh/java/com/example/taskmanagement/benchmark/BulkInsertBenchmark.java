@@ -0,0 +1,85 @@
+package com.example.taskmanagement.benchmark;
+
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// createMultipleTasks (save per task) against createTasksInBulk (chunked
+// flush/clear) at several batch sizes
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    @Param("10000")
+    private int datasetSize;
+
+    @Param({"10", "100", "1000"})
+    private int batchSize;
+
+    private BenchmarkContext context;
+    private TaskService taskService;
+    private JdbcTemplate jdbcTemplate;
+    private Long userId;
+    private long seededMaxId;
+    private final Random random = new Random(7L);
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(datasetSize);
+        taskService = context.getBean(TaskService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        userId = context.getUserIds().get(0);
+        seededMaxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM tasks", Long.class);
+    }
+
+    // Keep the table at the seeded size so later iterations insert into the same data volume
+    @TearDown(Level.Iteration)
+    public void removeInserted() {
+        jdbcTemplate.update("DELETE FROM tasks WHERE id > ?", seededMaxId);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void createMultipleTasks() {
+        taskService.createMultipleTasks(userId, newTasks());
+    }
+
+    @Benchmark
+    public void createTasksInBulk() {
+        taskService.createTasksInBulk(userId, newTasks());
+    }
+
+    private List<Task> newTasks() {
+        List<Task> tasks = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            tasks.add(BenchmarkContext.randomTask(random));
+        }
+        return tasks;
+    }
+}
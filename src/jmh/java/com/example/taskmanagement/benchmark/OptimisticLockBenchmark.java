@@ -0,0 +1,91 @@
+package com.example.taskmanagement.benchmark;
+
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.service.TaskService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// updateTaskWithOptimisticLock with several threads updating a "hot set" of
+// tasks; the smaller the hot set, the more version conflicts. Conflicts and
+// successful updates are reported as secondary results.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class OptimisticLockBenchmark {
+
+    @Param("10000")
+    private int datasetSize;
+
+    @Param({"1", "8", "1000"})
+    private int hotSetSize;
+
+    private BenchmarkContext context;
+    private TaskService taskService;
+    private List<Long> hotIds;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(datasetSize);
+        taskService = context.getBean(TaskService.class);
+        hotIds = context.getBean(JdbcTemplate.class)
+                .queryForList("SELECT id FROM tasks ORDER BY id LIMIT ?", Long.class, hotSetSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long updated;
+        public long conflicts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            updated = 0;
+            conflicts = 0;
+        }
+    }
+
+    @Benchmark
+    public void updateTaskWithOptimisticLock(Outcomes outcomes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long id = hotIds.get(random.nextInt(hotIds.size()));
+        Task details = new Task();
+        details.setTitle("updated " + random.nextInt(1000));
+        details.setDescription("contention run");
+        details.setStatus(BenchmarkContext.STATUSES[random.nextInt(BenchmarkContext.STATUSES.length)]);
+        details.setPriority(BenchmarkContext.PRIORITIES[random.nextInt(BenchmarkContext.PRIORITIES.length)]);
+        try {
+            taskService.updateTaskWithOptimisticLock(id, details);
+            outcomes.updated++;
+        } catch (RuntimeException e) {
+            // The version check fails at commit, i.e. outside the service's own catch
+            outcomes.conflicts++;
+        }
+    }
+}
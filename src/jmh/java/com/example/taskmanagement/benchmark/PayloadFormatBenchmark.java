@@ -0,0 +1,121 @@
+package com.example.taskmanagement.benchmark;
+
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.web.ColumnarJsonHttpMessageConverter;
+import org.hibernate.Hibernate;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Bytes and CPU time to encode 10k tasks (tags loaded) in each response
+// format, uncompressed and compressed. Time per op is the CPU cost; the
+// "bytes" secondary result is the payload size of one op.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+    @Param("10000")
+    private int taskCount;
+
+    @Param({"json", "smile", "cbor", "columnar"})
+    private String format;
+
+    @Param({"none", "gzip", "deflate"})
+    private String compression;
+
+    private BenchmarkContext context;
+    private List<Task> tasks;
+    private ObjectMapper mapper;
+    private ColumnarJsonHttpMessageConverter columnar;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(taskCount);
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+        TransactionTemplate readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        tasks = readOnly.execute(status -> {
+            List<Task> loaded = taskRepository.findAll(PageRequest.of(0, taskCount, Sort.by("id"))).getContent();
+            loaded.forEach(task -> Hibernate.initialize(task.getTags()));
+            return loaded;
+        });
+
+        ObjectMapper json = context.getBean(ObjectMapper.class);
+        mapper = switch (format) {
+            case "smile" -> context.getBean(SmileMapper.class);
+            case "cbor" -> context.getBean(CBORMapper.class);
+            default -> json;
+        };
+        columnar = new ColumnarJsonHttpMessageConverter(json);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Benchmark
+    public byte[] encodeTasks(Size size) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 20);
+        try (OutputStream out = compressed(buffer)) {
+            if ("columnar".equals(format)) {
+                columnar.write(tasks, out);
+            } else {
+                mapper.writeValue(out, tasks);
+            }
+        }
+        byte[] payload = buffer.toByteArray();
+        size.bytes = payload.length;
+        return payload;
+    }
+
+    private OutputStream compressed(OutputStream out) throws IOException {
+        return switch (compression) {
+            case "gzip" -> new GZIPOutputStream(out, 8192);
+            case "deflate" -> new DeflaterOutputStream(out);
+            default -> out;
+        };
+    }
+}
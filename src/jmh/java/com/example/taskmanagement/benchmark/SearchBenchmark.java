@@ -0,0 +1,101 @@
+package com.example.taskmanagement.benchmark;
+
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskSearchDTO;
+import com.example.taskmanagement.entity.TaskStatus;
+import com.example.taskmanagement.entity.TaskSummaryDTO;
+import com.example.taskmanagement.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// TaskService.searchTasks (entities) and searchTaskSummaries (projection)
+// for a range of TaskSearchDTO filter mixes
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SearchBenchmark {
+
+    @Param("50000")
+    private int datasetSize;
+
+    @Param({"status", "status_priority", "user", "user_tag", "keyword", "keyword_status", "date_range", "none"})
+    private String filters;
+
+    private BenchmarkContext context;
+    private TaskService taskService;
+    private TaskSearchDTO searchDTO;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(datasetSize);
+        taskService = context.getBean(TaskService.class);
+        searchDTO = buildSearch(filters);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Task> searchTasks() {
+        return taskService.searchTasks(searchDTO);
+    }
+
+    @Benchmark
+    public List<TaskSummaryDTO> searchTaskSummaries() {
+        return taskService.searchTaskSummaries(searchDTO);
+    }
+
+    private TaskSearchDTO buildSearch(String filters) {
+        TaskSearchDTO dto = new TaskSearchDTO();
+        switch (filters) {
+            case "status" -> dto.setStatus(TaskStatus.IN_PROGRESS);
+            case "status_priority" -> {
+                dto.setStatus(TaskStatus.TODO);
+                dto.setPriority(TaskPriority.HIGH);
+            }
+            case "user" -> dto.setUserId(context.getUserIds().get(0));
+            case "user_tag" -> {
+                dto.setUserId(context.getUserIds().get(0));
+                dto.setTagName(context.getTagNames().get(0));
+            }
+            case "keyword" -> dto.setKeyword("invoice");
+            case "keyword_status" -> {
+                dto.setKeyword("deploy");
+                dto.setStatus(TaskStatus.DONE);
+            }
+            // Newest half of the seeded rows by creation time
+            case "date_range" -> {
+                JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+                LocalDateTime first = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM tasks", LocalDateTime.class);
+                LocalDateTime last = jdbcTemplate.queryForObject("SELECT MAX(created_at) FROM tasks", LocalDateTime.class);
+                dto.setCreatedAfter(first.plus(Duration.between(first, last).dividedBy(2)));
+                dto.setCreatedBefore(last);
+            }
+            case "none" -> { }
+            default -> throw new IllegalArgumentException("Unknown filter mix: " + filters);
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.taskmanagement.benchmark;
+
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.repository.TaskRepository;
+import org.hibernate.Hibernate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+
+// Jackson serialization of a Page<Task> (tags loaded) with the application's
+// ObjectMapper, i.e. what the paginated endpoints spend after the query
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param("10000")
+    private int datasetSize;
+
+    @Param({"20", "100", "1000"})
+    private int pageSize;
+
+    private BenchmarkContext context;
+    private ObjectMapper objectMapper;
+    private Page<Task> page;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(datasetSize);
+        objectMapper = context.getBean(ObjectMapper.class);
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+        TransactionTemplate readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        page = readOnly.execute(status -> {
+            Page<Task> loaded = taskRepository.findAll(PageRequest.of(0, pageSize, Sort.by("id")));
+            loaded.forEach(task -> Hibernate.initialize(task.getTags()));
+            return loaded;
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
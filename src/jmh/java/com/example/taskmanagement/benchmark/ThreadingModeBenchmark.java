@@ -0,0 +1,98 @@
+package com.example.taskmanagement.benchmark;
+
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// TaskController endpoints over HTTP with many concurrent clients, once on
+// Tomcat's platform-thread pool and once on virtual threads (with JDBC
+// admission control). Throughput mode gives requests/s; SampleTime mode
+// reports the latency distribution, including p0.99.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(256)
+@Fork(1)
+public class ThreadingModeBenchmark {
+
+    @Param("100000")
+    private int datasetSize;
+
+    @Param({"platform", "virtual"})
+    private String threading;
+
+    private BenchmarkContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private List<Long> userIds;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.startWeb(datasetSize,
+                "spring.threads.virtual.enabled=" + "virtual".equals(threading));
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        baseUrl = context.getBaseUrl();
+        userIds = context.getUserIds();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getTaskById() throws IOException, InterruptedException {
+        long id = 1 + ThreadLocalRandom.current().nextInt(datasetSize);
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/" + id)).GET());
+    }
+
+    @Benchmark
+    public int searchByStatusAndUser() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String body = "{\"status\":\"" + BenchmarkContext.STATUSES[random.nextInt(BenchmarkContext.STATUSES.length)]
+                + "\",\"userId\":" + userIds.get(random.nextInt(userIds.size())) + "}";
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/search/paginated?size=20"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    @Benchmark
+    public int getTaskCounts() throws IOException, InterruptedException {
+        Long userId = userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/counts?userId=" + userId)).GET());
+    }
+
+    // Failed requests would look cheap, so they abort the run instead
+    private int send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(response.statusCode() + " from " + response.uri());
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.taskmanagement.archive;
+
+
+import com.example.taskmanagement.entity.ArchivedTaskDTO;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskStatus;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// One immutable archive segment file, read through a read-only memory map.
+//
+// Layout (big-endian):
+//   header   MAGIC int, FORMAT_VERSION int
+//   blocks   deflate-compressed runs of up to blockSize records, in id order
+//   index    per block: offset long, compressed int, uncompressed int, records int,
+//            minId long, maxId long, minCreated long, maxCreated long (epoch ms, UTC)
+//   trailer  index offset long, block count int, MAGIC int
+//
+// The index is sparse (one entry per block), so a lookup inflates only the
+// blocks whose id or created_at range can contain a match. Segments are
+// written to a temp file, forced to disk and renamed into place, so a
+// segment either exists completely or not at all.
+final class ArchiveSegment {
+
+    private static final int MAGIC = 0x54534547; // "TSEG"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int INDEX_ENTRY_BYTES = 8 + 4 + 4 + 4 + 8 * 4;
+    private static final int TRAILER_BYTES = 8 + 4 + 4;
+
+    private final Path path;
+    private final long sequence;
+    private final MappedByteBuffer map;
+    private final BlockEntry[] blocks;
+    private final long minId;
+    private final long maxId;
+    private final long minCreated;
+    private final long maxCreated;
+    private final int records;
+
+    private record BlockEntry(long offset, int compressed, int uncompressed, int records,
+                              long minId, long maxId, long minCreated, long maxCreated) {}
+
+    private ArchiveSegment(Path path, long sequence, MappedByteBuffer map, BlockEntry[] blocks) {
+        this.path = path;
+        this.sequence = sequence;
+        this.map = map;
+        this.blocks = blocks;
+        long lowId = Long.MAX_VALUE, highId = Long.MIN_VALUE, lowCreated = Long.MAX_VALUE, highCreated = Long.MIN_VALUE;
+        int count = 0;
+        for (BlockEntry block : blocks) {
+            lowId = Math.min(lowId, block.minId());
+            highId = Math.max(highId, block.maxId());
+            lowCreated = Math.min(lowCreated, block.minCreated());
+            highCreated = Math.max(highCreated, block.maxCreated());
+            count += block.records();
+        }
+        this.minId = lowId;
+        this.maxId = highId;
+        this.minCreated = lowCreated;
+        this.maxCreated = highCreated;
+        this.records = count;
+    }
+
+    // ========================================
+    // WRITE
+    // ========================================
+
+    // Tasks must be sorted by id
+    static ArchiveSegment write(Path path, long sequence, List<ArchivedTaskDTO> tasks, int blockSize) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        List<BlockEntry> entries = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+            writeFully(channel, header);
+
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                for (int from = 0; from < tasks.size(); from += blockSize) {
+                    List<ArchivedTaskDTO> block = tasks.subList(from, Math.min(from + blockSize, tasks.size()));
+                    byte[] raw = encode(block);
+                    byte[] compressed = deflate(deflater, raw);
+                    long offset = channel.position();
+                    writeFully(channel, ByteBuffer.wrap(compressed));
+                    long lowCreated = Long.MAX_VALUE, highCreated = Long.MIN_VALUE;
+                    for (ArchivedTaskDTO task : block) {
+                        long created = epochMillis(task.getCreatedAt());
+                        lowCreated = Math.min(lowCreated, created);
+                        highCreated = Math.max(highCreated, created);
+                    }
+                    entries.add(new BlockEntry(offset, compressed.length, raw.length, block.size(),
+                            block.get(0).getId(), block.get(block.size() - 1).getId(), lowCreated, highCreated));
+                }
+            } finally {
+                deflater.end();
+            }
+
+            long indexOffset = channel.position();
+            ByteBuffer index = ByteBuffer.allocate(entries.size() * INDEX_ENTRY_BYTES + TRAILER_BYTES);
+            for (BlockEntry entry : entries) {
+                index.putLong(entry.offset()).putInt(entry.compressed()).putInt(entry.uncompressed())
+                        .putInt(entry.records()).putLong(entry.minId()).putLong(entry.maxId())
+                        .putLong(entry.minCreated()).putLong(entry.maxCreated());
+            }
+            index.putLong(indexOffset).putInt(entries.size()).putInt(MAGIC).flip();
+            writeFully(channel, index);
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+        return open(path, sequence);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static byte[] deflate(Deflater deflater, byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+        byte[] buffer = new byte[8192];
+        while (!deflater.finished()) {
+            out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] encode(List<ArchivedTaskDTO> block) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(block.size() * 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (ArchivedTaskDTO task : block) {
+            out.writeLong(task.getId());
+            out.writeUTF(task.getTitle());
+            writeNullable(out, task.getDescription());
+            out.writeShort(task.getStatus().getCode());
+            out.writeShort(task.getPriority().getCode());
+            out.writeLong(task.getUserId() != null ? task.getUserId() : -1);
+            out.writeLong(task.getVersion() != null ? task.getVersion() : 0);
+            writeTime(out, task.getCreatedAt());
+            writeTime(out, task.getUpdatedAt());
+            writeNullable(out, task.getCreatedBy());
+            writeNullable(out, task.getUpdatedBy());
+            List<String> tagNames = task.getTagNames() != null ? task.getTagNames() : List.of();
+            out.writeShort(tagNames.size());
+            for (String tagName : tagNames) {
+                out.writeUTF(tagName);
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        out.writeBoolean(time != null);
+        if (time != null) {
+            out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(time.getNano());
+        }
+    }
+
+    static long epochMillis(LocalDateTime time) {
+        return time == null ? Long.MIN_VALUE : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    // ========================================
+    // READ
+    // ========================================
+
+    static ArchiveSegment open(Path path, long sequence) throws IOException {
+        MappedByteBuffer map;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (map.capacity() < HEADER_BYTES + TRAILER_BYTES || map.getInt(0) != MAGIC
+                || map.getInt(map.capacity() - 4) != MAGIC) {
+            throw new IOException("Not a task archive segment: " + path);
+        }
+        if (map.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unsupported segment format " + map.getInt(4) + " in " + path);
+        }
+        long indexOffset = map.getLong(map.capacity() - TRAILER_BYTES);
+        int count = map.getInt(map.capacity() - TRAILER_BYTES + 8);
+        BlockEntry[] blocks = new BlockEntry[count];
+        int position = (int) indexOffset;
+        for (int i = 0; i < count; i++, position += INDEX_ENTRY_BYTES) {
+            blocks[i] = new BlockEntry(map.getLong(position), map.getInt(position + 8), map.getInt(position + 12),
+                    map.getInt(position + 16), map.getLong(position + 20), map.getLong(position + 28),
+                    map.getLong(position + 36), map.getLong(position + 44));
+        }
+        return new ArchiveSegment(path, sequence, map, blocks);
+    }
+
+    ArchivedTaskDTO findById(long id) {
+        if (id < minId || id > maxId) {
+            return null;
+        }
+        for (BlockEntry block : blocks) {
+            if (id >= block.minId() && id <= block.maxId()) {
+                for (ArchivedTaskDTO task : decode(block)) {
+                    if (task.getId() == id) {
+                        return task;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    // Tasks with fromMillis <= created_at < toMillis, in id order
+    void scanCreated(long fromMillis, long toMillis, Predicate<ArchivedTaskDTO> sink) {
+        if (maxCreated < fromMillis || minCreated >= toMillis) {
+            return;
+        }
+        for (BlockEntry block : blocks) {
+            if (block.maxCreated() < fromMillis || block.minCreated() >= toMillis) {
+                continue;
+            }
+            for (ArchivedTaskDTO task : decode(block)) {
+                long created = epochMillis(task.getCreatedAt());
+                if (created >= fromMillis && created < toMillis && !sink.test(task)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private List<ArchivedTaskDTO> decode(BlockEntry block) {
+        byte[] compressed = new byte[block.compressed()];
+        map.get((int) block.offset(), compressed);
+        byte[] raw = new byte[block.uncompressed()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int read = 0;
+            while (read < raw.length && !inflater.finished()) {
+                read += inflater.inflate(raw, read, raw.length - read);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt block at " + block.offset() + " in " + path, e);
+        } finally {
+            inflater.end();
+        }
+
+        List<ArchivedTaskDTO> tasks = new ArrayList<>(block.records());
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw))) {
+            for (int i = 0; i < block.records(); i++) {
+                long id = in.readLong();
+                String title = in.readUTF();
+                String description = readNullable(in);
+                TaskStatus status = TaskStatus.fromCode(in.readShort());
+                TaskPriority priority = TaskPriority.fromCode(in.readShort());
+                long userId = in.readLong();
+                long version = in.readLong();
+                LocalDateTime createdAt = readTime(in);
+                LocalDateTime updatedAt = readTime(in);
+                String createdBy = readNullable(in);
+                String updatedBy = readNullable(in);
+                int tagCount = in.readShort();
+                List<String> tagNames = new ArrayList<>(tagCount);
+                for (int t = 0; t < tagCount; t++) {
+                    tagNames.add(in.readUTF());
+                }
+                tasks.add(new ArchivedTaskDTO(id, title, description, status, priority, userId < 0 ? null : userId,
+                        version, createdAt, updatedAt, createdBy, updatedBy, tagNames));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt block at " + block.offset() + " in " + path, e);
+        }
+        return tasks;
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    int getRecords() {
+        return records;
+    }
+
+    int getBlockCount() {
+        return blocks.length;
+    }
+
+    long getMinId() {
+        return minId;
+    }
+
+    long getMaxId() {
+        return maxId;
+    }
+
+    long sizeBytes() {
+        return map.capacity();
+    }
+}
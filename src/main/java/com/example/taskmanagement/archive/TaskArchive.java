@@ -0,0 +1,169 @@
+package com.example.taskmanagement.archive;
+
+
+import com.example.taskmanagement.entity.ArchivedTaskDTO;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Read side and file management of the task archive: the segment files in
+// app.archive.dir, each memory-mapped once and kept open.
+//
+// Segments are append-only and never rewritten. A task normally lives in
+// exactly one segment; if a run crashed between writing a segment and
+// committing the delete, the same ids can be archived again later, so reads
+// go newest segment first and the newest copy wins.
+@Component
+public class TaskArchive {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchive.class);
+
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".tseg";
+
+    @Value("${app.archive.dir:./data/archive}")
+    private String directory;
+
+    @Value("${app.archive.block-size:256}")
+    private int blockSize;
+
+    private Path root;
+
+    // Oldest first and only ever appended to, so readers can walk it by index
+    private final List<ArchiveSegment> segments = new CopyOnWriteArrayList<>();
+    private long nextSequence = 1; // guarded by this
+
+    @PostConstruct
+    void open() throws IOException {
+        root = Paths.get(directory).toAbsolutePath();
+        Files.createDirectories(root);
+        List<ArchiveSegment> loaded = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root, PREFIX + "*")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    // Left behind by a write that never completed
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(SUFFIX)) {
+                    long sequence = Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+                    loaded.add(ArchiveSegment.open(file, sequence));
+                }
+            }
+        }
+        loaded.sort(Comparator.comparingLong(ArchiveSegment::getSequence));
+        segments.addAll(loaded);
+        if (!loaded.isEmpty()) {
+            nextSequence = loaded.get(loaded.size() - 1).getSequence() + 1;
+        }
+        log.info("Task archive at {}: {} segments, {} archived tasks", root, loaded.size(),
+                loaded.stream().mapToLong(ArchiveSegment::getRecords).sum());
+    }
+
+    // ========================================
+    // WRITES (TaskArchiver)
+    // ========================================
+
+    // Writes a complete segment (sorted by id) to disk without publishing it.
+    // The caller publishes it once the rows are gone from the tasks table,
+    // or discards it if that transaction rolls back.
+    synchronized ArchiveSegment write(List<ArchivedTaskDTO> tasks) throws IOException {
+        if (tasks.isEmpty()) {
+            throw new IllegalArgumentException("Cannot write an empty segment");
+        }
+        long sequence = nextSequence++;
+        Path path = root.resolve(String.format("%s%06d%s", PREFIX, sequence, SUFFIX));
+        return ArchiveSegment.write(path, sequence, tasks, blockSize);
+    }
+
+    void publish(ArchiveSegment segment) {
+        segments.add(segment);
+    }
+
+    void discard(ArchiveSegment segment) {
+        try {
+            Files.deleteIfExists(segment.getPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not remove unpublished segment " + segment.getPath(), e);
+        }
+    }
+
+    // ========================================
+    // READS
+    // ========================================
+
+    public Optional<ArchivedTaskDTO> findById(Long id) {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            ArchivedTaskDTO task = segments.get(i).findById(id);
+            if (task != null) {
+                return Optional.of(task);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Archived tasks with from <= createdAt < to, oldest first (ties by id).
+    // Only blocks whose created_at range overlaps the window are inflated.
+    public List<ArchivedTaskDTO> findByCreatedBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        long fromMillis = from != null ? ArchiveSegment.epochMillis(from) : Long.MIN_VALUE;
+        long toMillis = to != null ? ArchiveSegment.epochMillis(to) : Long.MAX_VALUE;
+
+        Map<Long, ArchivedTaskDTO> byId = new LinkedHashMap<>();
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            segments.get(i).scanCreated(fromMillis, toMillis, task -> {
+                byId.putIfAbsent(task.getId(), task);
+                return true;
+            });
+        }
+        return byId.values().stream()
+                .sorted(Comparator.comparing(ArchivedTaskDTO::getCreatedAt,
+                        Comparator.nullsFirst(Comparator.naturalOrder())).thenComparing(ArchivedTaskDTO::getId))
+                .limit(limit)
+                .toList();
+    }
+
+    public Map<String, Object> getStats() {
+        List<ArchiveSegment> snapshot = List.copyOf(segments);
+        long records = 0;
+        long blocks = 0;
+        long bytes = 0;
+        for (ArchiveSegment segment : snapshot) {
+            records += segment.getRecords();
+            blocks += segment.getBlockCount();
+            bytes += segment.sizeBytes();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("directory", root.toString());
+        stats.put("segments", snapshot.size());
+        stats.put("blocks", blocks);
+        stats.put("archivedTasks", records);
+        stats.put("bytes", bytes);
+        stats.put("bytesPerTask", records == 0 ? 0.0 : (double) bytes / records);
+        if (!snapshot.isEmpty()) {
+            stats.put("minId", snapshot.stream().mapToLong(ArchiveSegment::getMinId).min().getAsLong());
+            stats.put("maxId", snapshot.stream().mapToLong(ArchiveSegment::getMaxId).max().getAsLong());
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.taskmanagement.archive;
+
+
+import com.example.taskmanagement.entity.ArchivedTaskDTO;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskStatus;
+import com.example.taskmanagement.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Moves old tasks out of the tasks table into TaskArchive, a bounded chunk
+// at a time instead of one large DELETE.
+//
+// Each chunk is its own short transaction: lock up to chunk-size matching
+// rows (oldest ids first), write them to a new segment file (fsynced),
+// delete them through TaskService.deleteMultipleTasks so tag links,
+// counters, indexes and the change feed follow, then commit. The segment is
+// published to readers after the commit and removed if the transaction
+// rolls back. A run stops after max-chunks-per-run chunks or when nothing
+// is left to archive.
+@Component
+public class TaskArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private static final String SELECT_CHUNK =
+            "SELECT id, title, description, status, priority, user_id, version, " +
+            "created_at, updated_at, created_by, updated_by FROM tasks " +
+            "WHERE status = ? AND created_at < ? ORDER BY id LIMIT ? FOR UPDATE";
+
+    @Value("${app.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.archive.status:DONE}")
+    private TaskStatus status;
+
+    @Value("${app.archive.older-than-days:90}")
+    private int olderThanDays;
+
+    @Value("${app.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.archive.max-chunks-per-run:50}")
+    private int maxChunksPerRun;
+
+    @Autowired
+    private TaskArchive archive;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Scheduled and manual runs never overlap
+    private final ReentrantLock running = new ReentrantLock();
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder chunks = new LongAdder();
+    private final LongAdder archived = new LongAdder();
+    private final LongAdder failedChunks = new LongAdder();
+    private volatile LocalDateTime lastRunAt;
+    private volatile Map<String, Object> lastRun = Map.of();
+
+    @Scheduled(initialDelayString = "${app.archive.interval-ms:3600000}",
+            fixedDelayString = "${app.archive.interval-ms:3600000}")
+    void scheduledRun() {
+        if (enabled) {
+            run(status, LocalDateTime.now().minusDays(olderThanDays));
+        }
+    }
+
+    // Archives tasks in the given status created before the cutoff and
+    // returns a summary of the run (or a "skipped" note if one is running)
+    public Map<String, Object> run(TaskStatus status, LocalDateTime before) {
+        if (!running.tryLock()) {
+            return Map.of("skipped", "another archive run is in progress");
+        }
+        try {
+            long start = System.currentTimeMillis();
+            int chunkCount = 0;
+            long moved = 0;
+            while (chunkCount < maxChunksPerRun) {
+                int n = archiveChunk(status, before);
+                if (n == 0) {
+                    break;
+                }
+                chunkCount++;
+                moved += n;
+                if (n < chunkSize) {
+                    break;
+                }
+            }
+            runs.increment();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("status", status);
+            summary.put("before", before);
+            summary.put("chunks", chunkCount);
+            summary.put("archived", moved);
+            summary.put("millis", System.currentTimeMillis() - start);
+            lastRunAt = LocalDateTime.now();
+            lastRun = summary;
+            if (moved > 0) {
+                log.info("Archived {} {} tasks created before {} in {} chunks ({} ms)",
+                        moved, status, before, chunkCount, summary.get("millis"));
+            }
+            return summary;
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private int archiveChunk(TaskStatus status, LocalDateTime before) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ArchiveSegment[] written = new ArchiveSegment[1];
+        try {
+            int n = tx.execute(txStatus -> {
+                List<ArchivedTaskDTO> tasks = lockChunk(status, before);
+                if (tasks.isEmpty()) {
+                    return 0;
+                }
+                try {
+                    written[0] = archive.write(tasks);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not write archive segment", e);
+                }
+                taskService.deleteMultipleTasks(tasks.stream().map(ArchivedTaskDTO::getId).toList());
+                return tasks.size();
+            });
+            if (written[0] != null) {
+                archive.publish(written[0]);
+                chunks.increment();
+                archived.add(n);
+            }
+            return n;
+        } catch (RuntimeException e) {
+            failedChunks.increment();
+            if (written[0] != null) {
+                archive.discard(written[0]);
+            }
+            throw e;
+        }
+    }
+
+    // Rows stay locked until the chunk commits, so they cannot change
+    // between being copied into the segment and being deleted
+    private List<ArchivedTaskDTO> lockChunk(TaskStatus status, LocalDateTime before) {
+        List<ArchivedTaskDTO> tasks = jdbcTemplate.query(SELECT_CHUNK, (rs, rowNum) -> new ArchivedTaskDTO(
+                rs.getLong(1), rs.getString(2), rs.getString(3),
+                TaskStatus.fromCode(rs.getShort(4)), TaskPriority.fromCode(rs.getShort(5)),
+                rs.getLong(6), rs.getLong(7), toLocal(rs.getTimestamp(8)), toLocal(rs.getTimestamp(9)),
+                rs.getString(10), rs.getString(11), new ArrayList<>()),
+                status.getCode(), Timestamp.valueOf(before), chunkSize);
+        if (tasks.isEmpty()) {
+            return tasks;
+        }
+
+        Map<Long, List<String>> tagNames = new HashMap<>();
+        for (ArchivedTaskDTO task : tasks) {
+            tagNames.put(task.getId(), task.getTagNames());
+        }
+        String placeholders = String.join(",", Collections.nCopies(tasks.size(), "?"));
+        jdbcTemplate.query("SELECT tt.task_id, tg.name FROM task_tags tt JOIN tags tg ON tg.id = tt.tag_id " +
+                        "WHERE tt.task_id IN (" + placeholders + ") ORDER BY tg.name",
+                rs -> { tagNames.get(rs.getLong(1)).add(rs.getString(2)); },
+                tasks.stream().map(ArchivedTaskDTO::getId).toArray());
+        return tasks;
+    }
+
+    private static LocalDateTime toLocal(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("status", status);
+        stats.put("olderThanDays", olderThanDays);
+        stats.put("chunkSize", chunkSize);
+        stats.put("maxChunksPerRun", maxChunksPerRun);
+        stats.put("running", running.isLocked());
+        stats.put("runs", runs.sum());
+        stats.put("chunks", chunks.sum());
+        stats.put("archived", archived.sum());
+        stats.put("failedChunks", failedChunks.sum());
+        stats.put("lastRunAt", lastRunAt);
+        stats.put("lastRun", lastRun);
+        return stats;
+    }
+}
@@ -0,0 +1,426 @@
+package com.example.taskmanagement.audit;
+
+
+import com.example.taskmanagement.entity.AuditEntryDTO;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskSnapshot;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Append-only history of every committed Task change, kept outside the
+// database: one compact binary record per changed task with its before and
+// after image, in memory-mapped segment files under app.audit.dir.
+//
+// Records are collected per transaction (entity callbacks through
+// TaskLifecycleListener, bulk paths from TaskService) and handed over in
+// afterCommit, so rolled-back work is never journaled and the database
+// transaction is not made any longer. A single writer thread appends
+// whatever commits have queued up as one group and forces the segment once
+// per group (group commit) when app.audit.sync is on; the committing thread
+// then waits for that force, bounded by sync-timeout-ms. Off by default: the
+// msync adds a disk flush (about a millisecond or more, depending on the
+// device) to every committing request, and without it the OS writes the
+// mapped pages back on its own. Segments are also forced when they roll over
+// and on shutdown, and the oldest are deleted beyond max-segments.
+//
+// A crash between the database commit and the force loses the records of
+// that group: the journal is an audit trail, not the source of truth.
+@Component
+public class AuditJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditJournal.class);
+
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".log";
+
+    @Value("${app.audit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.audit.dir:./data/audit}")
+    private String directory;
+
+    @Value("${app.audit.segment-size-mb:16}")
+    private int segmentSizeMb;
+
+    @Value("${app.audit.max-segments:16}")
+    private int maxSegments;
+
+    @Value("${app.audit.sync:false}")
+    private boolean sync;
+
+    @Value("${app.audit.sync-timeout-ms:1000}")
+    private long syncTimeoutMs;
+
+    @Value("${app.audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Autowired
+    private AuditorAware<String> auditorProvider;
+
+    private Path root;
+    private int segmentBytes;
+
+    // Oldest first; the last one is being written
+    private final List<AuditSegment> segments = new CopyOnWriteArrayList<>();
+    private BlockingQueue<Commit> queue;
+
+    // Writer thread only (after start)
+    private long nextLsn = 1;
+    private long lastTime;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder groups = new LongAdder();
+    private final LongAdder forceNanos = new LongAdder();
+    private final LongAdder syncTimeouts = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failedGroups = new LongAdder();
+    private final LongAdder rollovers = new LongAdder();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    private record Pending(AuditEntryDTO.Operation operation, long taskId, byte[] payload) {}
+
+    private static final class Commit {
+        private final List<Pending> records;
+        private final CountDownLatch written = new CountDownLatch(1);
+
+        private Commit(List<Pending> records) {
+            this.records = records;
+        }
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        root = Paths.get(directory).toAbsolutePath();
+        Files.createDirectories(root);
+        segmentBytes = Math.toIntExact(segmentSizeMb * 1024L * 1024L);
+
+        long begin = System.currentTimeMillis();
+        List<AuditSegment> loaded = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root, PREFIX + "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long sequence = Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+                loaded.add(AuditSegment.open(file, sequence));
+            }
+        }
+        loaded.sort(Comparator.comparingLong(AuditSegment::getSequence));
+        segments.addAll(loaded);
+        if (loaded.isEmpty()) {
+            segments.add(AuditSegment.create(segmentPath(1), 1, nextLsn, segmentBytes));
+        } else {
+            AuditSegment last = loaded.get(loaded.size() - 1);
+            nextLsn = last.getLastLsn() + 1;
+            lastTime = Math.max(0, last.getMaxTime());
+        }
+        log.info("Audit journal at {}: {} segments, {} records, next LSN {} ({} ms)", root, segments.size(),
+                segments.stream().mapToLong(AuditSegment::getRecords).sum(), nextLsn,
+                System.currentTimeMillis() - begin);
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::run, "audit-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (writer == null) {
+            return;
+        }
+        // The writer empties the queue, forces the segment and exits
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("{} audit commits were not written before shutdown", queue.size());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ========================================
+    // ENTITY PATH (called from TaskLifecycleListener)
+    // ========================================
+
+    // Before images of updates and deletes are Task.getLoadedState(), the
+    // row as Hibernate loaded it, filled in only for tasks actually flushed
+
+    public void created(Task task) {
+        if (enabled) {
+            record(AuditEntryDTO.Operation.CREATE, null, TaskSnapshot.of(task));
+        }
+    }
+
+    public void updated(Task task) {
+        if (enabled) {
+            record(AuditEntryDTO.Operation.UPDATE, task.getLoadedState(), TaskSnapshot.of(task));
+        }
+    }
+
+    public void removed(Task task) {
+        if (enabled) {
+            TaskSnapshot before = task.getLoadedState() != null ? task.getLoadedState() : TaskSnapshot.of(task);
+            record(AuditEntryDTO.Operation.DELETE, before, null);
+        }
+    }
+
+    // ========================================
+    // RECORDING
+    // ========================================
+
+    // Bulk paths call this directly with images read around their statement.
+    // Encoded right away (on this thread), written after commit.
+    public void record(AuditEntryDTO.Operation operation, TaskSnapshot before, TaskSnapshot after) {
+        if (!enabled) {
+            return;
+        }
+        TaskSnapshot image = after != null ? after : before;
+        if (image == null || image.getId() == null) {
+            throw new IllegalArgumentException("An audit record needs a task id");
+        }
+        byte[] payload = AuditSegment.encodePayload(auditorProvider.getCurrentAuditor().orElse(null), before, after);
+        if (payload.length > AuditSegment.maxPayload(segmentBytes)) {
+            throw new IllegalArgumentException("Audit record of " + payload.length + " bytes does not fit a segment");
+        }
+        Pending pending = new Pending(operation, image.getId(), payload);
+
+        PendingRecords bound = currentPendingRecords();
+        if (bound == null) {
+            submit(new ArrayList<>(List.of(pending)));
+        } else {
+            bound.records.add(pending);
+        }
+    }
+
+    private void submit(List<Pending> records) {
+        if (!running) {
+            dropped.add(records.size());
+            log.warn("Audit journal is stopped; dropping {} records", records.size());
+            return;
+        }
+        Commit commit = new Commit(records);
+        try {
+            // Blocks when the writer falls behind: backpressure on committers
+            queue.put(commit);
+            commits.increment();
+            if (sync && !commit.written.await(syncTimeoutMs, TimeUnit.MILLISECONDS)) {
+                syncTimeouts.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Returns the buffer registered with the current transaction (creating it
+    // on first use), or null when there is no transaction and records are
+    // written now. Looked up among the transaction's synchronizations, which
+    // REQUIRES_NEW suspends, so an inner transaction journals on its own commit.
+    private PendingRecords currentPendingRecords() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingRecords pending) {
+                return pending;
+            }
+        }
+        PendingRecords pending = new PendingRecords();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private class PendingRecords implements TransactionSynchronization {
+
+        private final List<Pending> records = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            if (!records.isEmpty()) {
+                submit(records);
+            }
+        }
+    }
+
+    // ========================================
+    // WRITER (runs on the audit-journal thread only)
+    // ========================================
+
+    private void run() {
+        List<Commit> group = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                Commit first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                queue.drainTo(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            try {
+                write(group);
+            } catch (IOException | RuntimeException e) {
+                failedGroups.increment();
+                log.error("Failed to write {} audit commits", group.size(), e);
+            } finally {
+                group.forEach(commit -> commit.written.countDown());
+                group.clear();
+            }
+        }
+        AuditSegment current = segments.get(segments.size() - 1);
+        current.publish();
+        current.force();
+    }
+
+    private void write(List<Commit> group) throws IOException {
+        AuditSegment current = segments.get(segments.size() - 1);
+        for (Commit commit : group) {
+            for (Pending pending : commit.records) {
+                if (!current.hasRoom(pending.payload().length)) {
+                    current = rollover(current);
+                }
+                // Never goes backwards, so time-window scans can stop early
+                lastTime = Math.max(lastTime, System.currentTimeMillis());
+                current.append(nextLsn++, lastTime, pending.operation(), pending.taskId(), pending.payload());
+                recorded.increment();
+            }
+        }
+        current.publish();
+        if (sync) {
+            long start = System.nanoTime();
+            current.force();
+            forceNanos.add(System.nanoTime() - start);
+        }
+        groups.increment();
+    }
+
+    private AuditSegment rollover(AuditSegment full) throws IOException {
+        full.publish();
+        full.force();
+        long sequence = full.getSequence() + 1;
+        AuditSegment next = AuditSegment.create(segmentPath(sequence), sequence, nextLsn, segmentBytes);
+        segments.add(next);
+        rollovers.increment();
+        while (segments.size() > maxSegments) {
+            AuditSegment oldest = segments.remove(0);
+            oldest.delete();
+            log.info("Dropped audit segment {} (LSN up to {})", oldest.getPath().getFileName(), oldest.getLastLsn());
+        }
+        return next;
+    }
+
+    private Path segmentPath(long sequence) {
+        return root.resolve(String.format("%s%06d%s", PREFIX, sequence, SUFFIX));
+    }
+
+    // ========================================
+    // READS
+    // ========================================
+
+    // One task's history in [from, to) (either bound optional), oldest first
+    public List<AuditEntryDTO> findByTaskId(Long taskId, LocalDateTime from, LocalDateTime to, int limit) {
+        if (taskId == null) {
+            throw new IllegalArgumentException("taskId is required");
+        }
+        return scan(taskId, from, to, limit);
+    }
+
+    // Every record in [from, to) (either bound optional), oldest first
+    public List<AuditEntryDTO> findBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        return scan(null, from, to, limit);
+    }
+
+    private List<AuditEntryDTO> scan(Long taskId, LocalDateTime from, LocalDateTime to, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        List<AuditEntryDTO> entries = new ArrayList<>();
+        if (!enabled) {
+            return entries;
+        }
+        long fromMillis = from != null ? from.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : Long.MIN_VALUE;
+        long toMillis = to != null ? to.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : Long.MAX_VALUE;
+        for (AuditSegment segment : segments) {
+            boolean more = segment.scan(taskId, fromMillis, toMillis, entry -> {
+                entries.add(entry);
+                return entries.size() < limit;
+            });
+            if (!more) {
+                break;
+            }
+        }
+        return entries;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        if (!enabled) {
+            return stats;
+        }
+        List<AuditSegment> snapshot = List.copyOf(segments);
+        long groupCount = groups.sum();
+        stats.put("directory", root.toString());
+        stats.put("sync", sync);
+        stats.put("segments", snapshot.size());
+        stats.put("segmentSizeBytes", segmentBytes);
+        stats.put("bytes", snapshot.stream().mapToLong(AuditSegment::getPublishedBytes).sum());
+        stats.put("records", snapshot.stream().mapToLong(AuditSegment::getRecords).sum());
+        stats.put("firstLsn", snapshot.get(0).getBaseLsn());
+        stats.put("lastLsn", snapshot.get(snapshot.size() - 1).getLastLsn());
+        stats.put("recorded", recorded.sum());
+        stats.put("commits", commits.sum());
+        stats.put("groups", groupCount);
+        stats.put("avgRecordsPerGroup", groupCount == 0 ? 0.0 : (double) recorded.sum() / groupCount);
+        stats.put("avgForceMicros", groupCount == 0 ? 0.0 : forceNanos.sum() / 1000.0 / groupCount);
+        stats.put("syncTimeouts", syncTimeouts.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("failedGroups", failedGroups.sum());
+        stats.put("rollovers", rollovers.sum());
+        stats.put("queued", queue.size());
+        return stats;
+    }
+}
@@ -0,0 +1,384 @@
+package com.example.taskmanagement.audit;
+
+
+import com.example.taskmanagement.entity.AuditEntryDTO;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskSnapshot;
+import com.example.taskmanagement.entity.TaskStatus;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+// One fixed-size (sparse), memory-mapped journal file. Records are
+// appended by the journal writer thread only; readers see everything up to
+// the last published position.
+//
+// Layout (big-endian):
+//   header  MAGIC int, FORMAT_VERSION int, base LSN long
+//   record  length int, CRC32 int, then length bytes of body:
+//           lsn long, recorded-at epoch ms long, operation byte, task id long,
+//           payload (actor, before/after images; see encodePayload)
+//   end     a zero length (the file is zero-filled when created)
+//
+// A record whose CRC does not match marks the end of the data: it can only
+// be a write that was torn by a crash, so recovery cuts the segment there.
+// An in-memory Bloom filter of task ids (rebuilt on open) lets scans by task
+// skip segments that cannot contain it.
+final class AuditSegment {
+
+    private static final int MAGIC = 0x54414A4C; // "TAJL"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final int FIXED_BODY_BYTES = 8 + 8 + 1 + 8;
+    private static final int BLOOM_BITS = 1 << 20;
+    private static final int BLOOM_HASHES = 3;
+
+    private final Path path;
+    private final long sequence;
+    private final long baseLsn;
+    private final MappedByteBuffer map;
+    private final long[] bloom = new long[BLOOM_BITS / 64];
+
+    // Written by the journal writer only; readers go through published
+    private int position;
+    private int forced;
+    private volatile int published;
+    private volatile long records;
+    private volatile long lastLsn;
+    private volatile long minTime = Long.MAX_VALUE;
+    private volatile long maxTime = Long.MIN_VALUE;
+
+    private AuditSegment(Path path, long sequence, long baseLsn, MappedByteBuffer map) {
+        this.path = path;
+        this.sequence = sequence;
+        this.baseLsn = baseLsn;
+        this.map = map;
+        this.lastLsn = baseLsn - 1;
+    }
+
+    static AuditSegment create(Path path, long sequence, long baseLsn, int sizeBytes) throws IOException {
+        MappedByteBuffer map;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Mapping past the end grows the file (sparse, zero-filled)
+            map = channel.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+        }
+        map.putInt(0, MAGIC).putInt(4, FORMAT_VERSION).putLong(8, baseLsn);
+        map.force(0, HEADER_BYTES);
+        AuditSegment segment = new AuditSegment(path, sequence, baseLsn, map);
+        segment.position = HEADER_BYTES;
+        segment.forced = HEADER_BYTES;
+        segment.published = HEADER_BYTES;
+        return segment;
+    }
+
+    // Maps an existing segment and rebuilds its index by scanning it; a torn
+    // record at the end is cut off so the next append overwrites it
+    static AuditSegment open(Path path, long sequence) throws IOException {
+        MappedByteBuffer map;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            map = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        }
+        if (map.capacity() < HEADER_BYTES || map.getInt(0) != MAGIC) {
+            throw new IOException("Not an audit journal segment: " + path);
+        }
+        if (map.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unsupported journal format " + map.getInt(4) + " in " + path);
+        }
+        AuditSegment segment = new AuditSegment(path, sequence, map.getLong(8), map);
+        int position = HEADER_BYTES;
+        while (true) {
+            int length = segment.validLengthAt(position);
+            if (length < 0) {
+                break;
+            }
+            int body = position + RECORD_HEADER_BYTES;
+            segment.indexRecord(map.getLong(body), map.getLong(body + 8), map.getLong(body + 17));
+            position = body + length;
+        }
+        if (position + 4 <= map.capacity() && map.getInt(position) != 0) {
+            map.putInt(position, 0);
+            map.force(position, 4);
+        }
+        segment.position = position;
+        segment.forced = position;
+        segment.published = position;
+        return segment;
+    }
+
+    // Length of the complete, checksummed record at position, or -1 at the end
+    private int validLengthAt(int position) {
+        if (position + RECORD_HEADER_BYTES > map.capacity()) {
+            return -1;
+        }
+        int length = map.getInt(position);
+        if (length < FIXED_BODY_BYTES || length > map.capacity() - position - RECORD_HEADER_BYTES) {
+            return -1;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(map.slice(position + RECORD_HEADER_BYTES, length));
+        return (int) crc.getValue() == map.getInt(position + 4) ? length : -1;
+    }
+
+    // ========================================
+    // WRITE (journal writer thread only)
+    // ========================================
+
+    boolean hasRoom(int payloadLength) {
+        return (long) position + RECORD_HEADER_BYTES + FIXED_BODY_BYTES + payloadLength <= map.capacity();
+    }
+
+    static int maxPayload(int sizeBytes) {
+        return sizeBytes - HEADER_BYTES - RECORD_HEADER_BYTES - FIXED_BODY_BYTES;
+    }
+
+    void append(long lsn, long timeMillis, AuditEntryDTO.Operation operation, long taskId, byte[] payload) {
+        int length = FIXED_BODY_BYTES + payload.length;
+        int body = position + RECORD_HEADER_BYTES;
+        map.putLong(body, lsn)
+                .putLong(body + 8, timeMillis)
+                .put(body + 16, (byte) operation.ordinal())
+                .putLong(body + 17, taskId)
+                .put(body + FIXED_BODY_BYTES, payload);
+        CRC32 crc = new CRC32();
+        crc.update(map.slice(body, length));
+        // Length last: a record is only reachable once it is complete
+        map.putInt(position + 4, (int) crc.getValue());
+        map.putInt(position, length);
+        indexRecord(lsn, timeMillis, taskId);
+        position = body + length;
+    }
+
+    // Makes everything appended so far visible to readers
+    void publish() {
+        published = position;
+    }
+
+    // Forces the bytes appended since the last force to disk
+    void force() {
+        if (forced < position) {
+            map.force(forced, position - forced);
+            forced = position;
+        }
+    }
+
+    private void indexRecord(long lsn, long timeMillis, long taskId) {
+        long hash = mix(taskId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            int bit = (h1 + i * h2) & (BLOOM_BITS - 1);
+            bloom[bit >>> 6] |= 1L << bit;
+        }
+        minTime = Math.min(minTime, timeMillis);
+        maxTime = Math.max(maxTime, timeMillis);
+        lastLsn = lsn;
+        records++;
+    }
+
+    // ========================================
+    // READ
+    // ========================================
+
+    boolean mightContain(long taskId) {
+        long hash = mix(taskId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            int bit = (h1 + i * h2) & (BLOOM_BITS - 1);
+            if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Feeds records with fromMillis <= recorded-at < toMillis (and the given
+    // task id, when not null) to sink in LSN order; only matching records are
+    // decoded. Returns false once sink does.
+    boolean scan(Long taskId, long fromMillis, long toMillis, Predicate<AuditEntryDTO> sink) {
+        int end = published;
+        if (records == 0 || maxTime < fromMillis || minTime >= toMillis
+                || (taskId != null && !mightContain(taskId))) {
+            return true;
+        }
+        int position = HEADER_BYTES;
+        while (position < end) {
+            int length = map.getInt(position);
+            int body = position + RECORD_HEADER_BYTES;
+            long time = map.getLong(body + 8);
+            if (time >= toMillis) {
+                // Recorded-at never decreases within the journal
+                return true;
+            }
+            if (time >= fromMillis && (taskId == null || map.getLong(body + 17) == taskId)) {
+                if (!sink.test(decode(body, length))) {
+                    return false;
+                }
+            }
+            position = body + length;
+        }
+        return true;
+    }
+
+    private AuditEntryDTO decode(int body, int length) {
+        byte[] payload = new byte[length - FIXED_BODY_BYTES];
+        map.get(body + FIXED_BODY_BYTES, payload);
+        long taskId = map.getLong(body + 17);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            String actor = readNullable(in);
+            TaskSnapshot before = in.readBoolean() ? readImage(in, taskId) : null;
+            TaskSnapshot after = in.readBoolean() ? readImage(in, taskId) : null;
+            return new AuditEntryDTO(map.getLong(body),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(map.getLong(body + 8)), ZoneId.systemDefault()),
+                    AuditEntryDTO.Operation.values()[map.get(body + 16)], taskId, actor, before, after);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt audit record at " + body + " in " + path, e);
+        }
+    }
+
+    // ========================================
+    // PAYLOAD ENCODING (runs on the committing thread)
+    // ========================================
+
+    static byte[] encodePayload(String actor, TaskSnapshot before, TaskSnapshot after) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeNullable(out, actor);
+            out.writeBoolean(before != null);
+            if (before != null) {
+                writeImage(out, before);
+            }
+            out.writeBoolean(after != null);
+            if (after != null) {
+                writeImage(out, after);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // The task id is in the fixed part of the record, so images omit it
+    private static void writeImage(DataOutputStream out, TaskSnapshot task) throws IOException {
+        writeNullable(out, task.getTitle());
+        writeNullable(out, task.getDescription());
+        out.writeShort(task.getStatus() != null ? task.getStatus().getCode() : -1);
+        out.writeShort(task.getPriority() != null ? task.getPriority().getCode() : -1);
+        out.writeLong(task.getUserId() != null ? task.getUserId() : -1);
+        out.writeLong(task.getVersion() != null ? task.getVersion() : -1);
+        writeTime(out, task.getCreatedAt());
+        writeTime(out, task.getUpdatedAt());
+        Set<String> tagNames = task.getTagNames();
+        out.writeShort(tagNames != null ? tagNames.size() : -1);
+        if (tagNames != null) {
+            for (String tagName : tagNames) {
+                out.writeUTF(tagName);
+            }
+        }
+    }
+
+    private static TaskSnapshot readImage(DataInputStream in, long taskId) throws IOException {
+        String title = readNullable(in);
+        String description = readNullable(in);
+        short status = in.readShort();
+        short priority = in.readShort();
+        long userId = in.readLong();
+        long version = in.readLong();
+        LocalDateTime createdAt = readTime(in);
+        LocalDateTime updatedAt = readTime(in);
+        int tagCount = in.readShort();
+        Set<String> tagNames = null;
+        if (tagCount >= 0) {
+            tagNames = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tagNames.add(in.readUTF());
+            }
+        }
+        return new TaskSnapshot(taskId, title, description,
+                status < 0 ? null : TaskStatus.fromCode(status), priority < 0 ? null : TaskPriority.fromCode(priority),
+                userId < 0 ? null : userId, version < 0 ? null : version, createdAt, updatedAt, tagNames);
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        out.writeBoolean(time != null);
+        if (time != null) {
+            out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(time.getNano());
+        }
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+
+    // SplitMix64 finalizer: spreads sequential ids over the filter
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    long getBaseLsn() {
+        return baseLsn;
+    }
+
+    long getLastLsn() {
+        return lastLsn;
+    }
+
+    long getRecords() {
+        return records;
+    }
+
+    long getMaxTime() {
+        return maxTime;
+    }
+
+    int getPublishedBytes() {
+        return published;
+    }
+
+    Path getPath() {
+        return path;
+    }
+}
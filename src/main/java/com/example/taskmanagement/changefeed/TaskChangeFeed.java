@@ -0,0 +1,210 @@
+package com.example.taskmanagement.changefeed;
+
+
+import com.example.taskmanagement.entity.TaskChangeDTO;
+import com.example.taskmanagement.entity.TaskChangePageDTO;
+import com.example.taskmanagement.entity.TaskSnapshot;
+import com.example.taskmanagement.event.TaskWriteListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// The last N committed task changes, in commit order, in a ring buffer.
+//
+// Every committed write and delete (from TaskWriteDispatcher) gets the next
+// sequence number. Per task, sequence order is version order: the dispatcher
+// drops a commit that arrives after a newer version of the same task (or
+// after its delete), so a client can apply changes in feed order. A cursor is "<epoch>.<sequence>": the client has seen
+// everything up to that sequence. Reading since a cursor returns the changes
+// after it, or empty when the ring no longer reaches back that far (or the
+// epoch changed), in which case the client does one full read and takes a
+// fresh cursor from it.
+//
+// The epoch changes at startup and after every full replay: the feed only
+// knows about writes that went through the dispatcher, so a replay (e.g.
+// after a bulk JDBC load) invalidates every outstanding cursor.
+@Component
+public class TaskChangeFeed implements TaskWriteListener {
+
+    @Value("${app.change-feed.capacity:100000}")
+    private int capacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+
+    // Guarded by lock
+    private TaskChangeDTO[] ring;
+    private long head;  // sequence of the newest change, 0 = none yet
+    private long epoch;
+    private boolean replaying;
+
+    @PostConstruct
+    void init() {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("app.change-feed.capacity must be at least 1");
+        }
+        ring = new TaskChangeDTO[capacity];
+        epoch = System.currentTimeMillis();
+    }
+
+    // ========================================
+    // WRITES (committing threads, via TaskWriteDispatcher)
+    // ========================================
+
+    @Override
+    public void onTaskWritten(TaskSnapshot snapshot) {
+        append(TaskChangeDTO.Type.UPSERT, snapshot.getId(), snapshot);
+    }
+
+    @Override
+    public void onTaskDeleted(Long taskId) {
+        append(TaskChangeDTO.Type.DELETE, taskId, null);
+    }
+
+    @Override
+    public void onReplayStarted() {
+        lock.lock();
+        try {
+            replaying = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onReplayFinished() {
+        lock.lock();
+        try {
+            replaying = false;
+            ring = new TaskChangeDTO[capacity];
+            head = 0;
+            epoch = Math.max(epoch + 1, System.currentTimeMillis());
+            appended.signalAll(); // waiting streams find their cursor expired
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(TaskChangeDTO.Type type, Long taskId, TaskSnapshot snapshot) {
+        lock.lock();
+        try {
+            if (replaying) {
+                return;
+            }
+            long sequence = ++head;
+            ring[(int) (sequence % capacity)] = new TaskChangeDTO(sequence, type, taskId, snapshot, LocalDateTime.now());
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ========================================
+    // READS
+    // ========================================
+
+    // Cursor for "now": what a client takes after a full read
+    public String currentCursor() {
+        lock.lock();
+        try {
+            return cursor(epoch, head);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<TaskChangePageDTO> readSince(String cursor, int limit) {
+        return awaitSince(cursor, limit, 0);
+    }
+
+    // Like readSince, but waits up to timeoutMillis for a change when there is
+    // none yet (an empty page after the timeout). Empty Optional = expired cursor.
+    public Optional<TaskChangePageDTO> awaitSince(String cursor, int limit, long timeoutMillis) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        long[] parsed = parse(cursor);
+        long cursorEpoch = parsed[0];
+        long since = parsed[1];
+
+        long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        lock.lock();
+        try {
+            while (cursorEpoch == epoch && since == head && remaining > 0) {
+                try {
+                    remaining = appended.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            if (cursorEpoch != epoch) {
+                return Optional.empty();
+            }
+            if (since > head) {
+                throw new IllegalArgumentException("Cursor " + cursor + " is ahead of the feed");
+            }
+            long oldest = Math.max(1, head - capacity + 1);
+            if (since < oldest - 1) {
+                return Optional.empty();
+            }
+            long last = Math.min(head, since + limit);
+            List<TaskChangeDTO> changes = new ArrayList<>((int) (last - since));
+            for (long sequence = since + 1; sequence <= last; sequence++) {
+                changes.add(ring[(int) (sequence % capacity)]);
+            }
+            return Optional.of(new TaskChangePageDTO(changes, cursor(epoch, last), last < head));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        lock.lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("cursor", cursor(epoch, head));
+            stats.put("capacity", capacity);
+            stats.put("retained", Math.min(head, capacity));
+            stats.put("oldestSequence", head == 0 ? 0 : Math.max(1, head - capacity + 1));
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static String cursor(long epoch, long sequence) {
+        return Long.toString(epoch, 36) + "." + sequence;
+    }
+
+    // Same epoch, another sequence (per-event ids within a page)
+    public static String withSequence(String cursor, long sequence) {
+        return cursor.substring(0, cursor.indexOf('.') + 1) + sequence;
+    }
+
+    private static long[] parse(String cursor) {
+        int dot = cursor == null ? -1 : cursor.indexOf('.');
+        if (dot < 1) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor);
+        }
+        try {
+            long epoch = Long.parseLong(cursor.substring(0, dot), 36);
+            long sequence = Long.parseLong(cursor.substring(dot + 1));
+            if (sequence < 0) {
+                throw new IllegalArgumentException("Malformed cursor: " + cursor);
+            }
+            return new long[]{epoch, sequence};
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor);
+        }
+    }
+}
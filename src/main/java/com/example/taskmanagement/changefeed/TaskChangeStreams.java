@@ -0,0 +1,110 @@
+package com.example.taskmanagement.changefeed;
+
+
+import com.example.taskmanagement.entity.TaskChangeDTO;
+import com.example.taskmanagement.entity.TaskChangePageDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Server-sent event streams over TaskChangeFeed. Each subscriber gets its
+// own virtual thread that waits on the feed and sends from its own cursor,
+// so a slow client only delays itself, never a committing writer.
+//
+// Every event carries its cursor as the SSE id, so a reconnecting client
+// resumes with Last-Event-ID. A cursor the feed no longer covers ends the
+// stream with a "reset" event: the client re-reads and reconnects.
+@Component
+public class TaskChangeStreams {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskChangeStreams.class);
+
+    private static final int SEND_BATCH = 500;
+
+    @Value("${app.change-feed.max-streams:1000}")
+    private int maxStreams;
+
+    @Value("${app.change-feed.stream-timeout-ms:1800000}")
+    private long streamTimeoutMs;
+
+    @Value("${app.change-feed.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Autowired
+    private TaskChangeFeed feed;
+
+    private final AtomicInteger open = new AtomicInteger();
+    private final LongAdder sent = new LongAdder();
+    private volatile boolean shuttingDown;
+
+    // Empty when too many streams are open; since = null starts at "now"
+    public Optional<SseEmitter> open(String since) {
+        String cursor = since != null ? since : feed.currentCursor();
+        feed.readSince(cursor, 1); // rejects malformed cursors before anything is opened
+        if (open.incrementAndGet() > maxStreams) {
+            open.decrementAndGet();
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        AtomicBoolean closed = new AtomicBoolean();
+        emitter.onCompletion(() -> closed.set(true));
+        emitter.onTimeout(() -> closed.set(true));
+        emitter.onError(e -> closed.set(true));
+        Thread.ofVirtual().name("change-stream").start(() -> stream(emitter, cursor, closed));
+        return Optional.of(emitter);
+    }
+
+    private void stream(SseEmitter emitter, String cursor, AtomicBoolean closed) {
+        try {
+            while (!closed.get() && !shuttingDown) {
+                Optional<TaskChangePageDTO> page = feed.awaitSince(cursor, SEND_BATCH, heartbeatMs);
+                if (page.isEmpty()) {
+                    emitter.send(SseEmitter.event().name("reset").data(feed.currentCursor()));
+                    break;
+                }
+                if (page.get().getChanges().isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("keepalive")); // detects dead clients
+                    continue;
+                }
+                for (TaskChangeDTO change : page.get().getChanges()) {
+                    emitter.send(SseEmitter.event()
+                            .id(TaskChangeFeed.withSequence(cursor, change.getSequence()))
+                            .name(change.getType() == TaskChangeDTO.Type.DELETE ? "delete" : "upsert")
+                            .data(change));
+                    sent.increment();
+                }
+                cursor = page.get().getNextCursor();
+            }
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // Client went away (or the emitter already completed)
+            log.debug("Change stream closed: {}", e.getMessage());
+        } finally {
+            open.decrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        shuttingDown = true;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("openStreams", open.get());
+        stats.put("maxStreams", maxStreams);
+        stats.put("eventsSent", sent.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.jdbc.AdmissionControlDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import javax.sql.DataSource;
+
+// Request execution mode. spring.threads.virtual.enabled switches Tomcat's
+// request threads, the @Async/MVC async executor (applicationTaskExecutor)
+// and @Scheduled jobs to virtual threads; the JDBC admission limiter is enabled
+// with it by default, sized to the connection pool.
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class ThreadingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingConfig.class);
+
+    // Static: a post-processor must not drag this configuration in early
+    @Bean
+    public static BeanPostProcessor jdbcAdmissionPostProcessor(
+            @Value("${app.jdbc.admission.enabled:false}") boolean enabled,
+            @Value("${app.jdbc.admission.max-concurrent:10}") int maxConcurrent,
+            @Value("${app.jdbc.admission.timeout-ms:5000}") long timeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlDataSource) {
+                    return bean;
+                }
+                log.info("JDBC admission control on '{}': {} concurrent connections, {} ms wait",
+                        beanName, maxConcurrent, timeoutMillis);
+                return new AdmissionControlDataSource(dataSource, maxConcurrent, timeoutMillis);
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.web.ColumnarJsonHttpMessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.cfg.EnumFeature;
+import tools.jackson.databind.cfg.JsonNodeFeature;
+import tools.jackson.databind.cfg.MapperBuilder;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+// Extra response formats, picked by the Accept header on every controller:
+//   application/x-jackson-smile    binary JSON (Smile)
+//   application/cbor               CBOR
+//   application/vnd.columnar+json  collections as {"columns":[...],"rows":[[...]]}
+// They are registered behind the JSON converter, so application/json stays
+// the default (no Accept header, */*, browser Accept headers) and the others
+// are only served when asked for by name. Compression (gzip) is done by the
+// server for all of them, see server.compression.* in application.properties.
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    // The binary mappers copy the JSON mapper's configuration, so every
+    // format serializes the same properties the same way
+    @Bean
+    public SmileMapper smileMapper() {
+        return copyConfiguration(jsonMapper, SmileMapper.builder());
+    }
+
+    @Bean
+    public CBORMapper cborMapper() {
+        return copyConfiguration(jsonMapper, CBORMapper.builder());
+    }
+
+    // Smile and CBOR take their default slots, behind JSON. Columnar is a
+    // custom converter (in front of the defaults); see its
+    // getSupportedMediaTypes for why it does not take over */*.
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.withSmileConverter(new JacksonSmileHttpMessageConverter(smileMapper()))
+                .withCborConverter(new JacksonCborHttpMessageConverter(cborMapper()))
+                .addCustomConverter(new ColumnarJsonHttpMessageConverter(jsonMapper));
+    }
+
+    // Modules, features, naming, inclusion and date/time settings
+    static <M extends ObjectMapper, B extends MapperBuilder<M, B>> M copyConfiguration(ObjectMapper source, B builder) {
+        SerializationConfig config = source.serializationConfig();
+        builder.addModules(source.registeredModules());
+        for (MapperFeature feature : MapperFeature.values()) {
+            builder.configure(feature, source.isEnabled(feature));
+        }
+        for (SerializationFeature feature : SerializationFeature.values()) {
+            builder.configure(feature, source.isEnabled(feature));
+        }
+        for (DeserializationFeature feature : DeserializationFeature.values()) {
+            builder.configure(feature, source.isEnabled(feature));
+        }
+        for (DateTimeFeature feature : DateTimeFeature.values()) {
+            builder.configure(feature, source.isEnabled(feature));
+        }
+        for (EnumFeature feature : EnumFeature.values()) {
+            builder.configure(feature, source.isEnabled(feature));
+        }
+        for (JsonNodeFeature feature : JsonNodeFeature.values()) {
+            builder.configure(feature, source.isEnabled(feature));
+        }
+        if (config.getPropertyNamingStrategy() != null) {
+            builder.propertyNamingStrategy(config.getPropertyNamingStrategy());
+        }
+        builder.changeDefaultPropertyInclusion(inclusion -> config.getDefaultPropertyInclusion());
+        builder.defaultDateFormat(config.getDateFormat());
+        if (config.hasExplicitTimeZone()) {
+            builder.defaultTimeZone(config.getTimeZone());
+        }
+        builder.defaultLocale(config.getLocale());
+        return builder.build();
+    }
+}
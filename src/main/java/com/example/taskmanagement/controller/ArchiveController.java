@@ -0,0 +1,72 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.archive.TaskArchive;
+import com.example.taskmanagement.archive.TaskArchiver;
+import com.example.taskmanagement.entity.ArchivedTaskDTO;
+import com.example.taskmanagement.entity.TaskStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Archived tasks are read from the segment files only; they no longer
+// appear in /api/tasks
+@RestController
+@RequestMapping("/api/archive")
+public class ArchiveController {
+    
+    private static final int MAX_LIMIT = 10000;
+    
+    @Autowired
+    private TaskArchive archive;
+    
+    @Autowired
+    private TaskArchiver archiver;
+    
+    // Get an archived task by id
+    @GetMapping("/tasks/{id}")
+    public ResponseEntity<ArchivedTaskDTO> getArchivedTask(@PathVariable Long id) {
+        return archive.findById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    // Archived tasks created in [from, to), oldest first
+    @GetMapping("/tasks")
+    public ResponseEntity<?> getArchivedTasks(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "1000") int limit) {
+        try {
+            List<ArchivedTaskDTO> tasks = archive.findByCreatedBetween(from, to, Math.min(limit, MAX_LIMIT));
+            return ResponseEntity.ok(tasks);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+    
+    // Run the archiver now (same chunking as the scheduled job)
+    @PostMapping("/run")
+    public ResponseEntity<?> runArchiver(
+            @RequestParam(defaultValue = "DONE") String status,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before) {
+        try {
+            return ResponseEntity.ok(archiver.run(TaskStatus.fromValue(status), before));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+    
+    // Segment files and archiver runs
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getArchiveStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("archive", archive.getStats());
+        result.put("archiver", archiver.getStats());
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.audit.AuditJournal;
+import com.example.taskmanagement.entity.AuditEntryDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// Task history from the audit journal, oldest first. Tasks that were
+// deleted or archived keep their history here.
+@RestController
+@RequestMapping("/api/audit")
+public class AuditController {
+    
+    private static final int MAX_LIMIT = 10000;
+    
+    @Autowired
+    private AuditJournal auditJournal;
+    
+    // One task's changes, optionally within [from, to)
+    @GetMapping("/tasks/{id}")
+    public ResponseEntity<?> getTaskHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "1000") int limit) {
+        try {
+            List<AuditEntryDTO> entries = auditJournal.findByTaskId(id, from, to, Math.min(limit, MAX_LIMIT));
+            return ResponseEntity.ok(entries);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+    
+    // All changes recorded in [from, to)
+    @GetMapping("/entries")
+    public ResponseEntity<?> getEntries(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "1000") int limit) {
+        try {
+            List<AuditEntryDTO> entries = auditJournal.findBetween(from, to, Math.min(limit, MAX_LIMIT));
+            return ResponseEntity.ok(entries);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+    
+    // Segments, group commit sizes and force times
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getAuditStats() {
+        return ResponseEntity.ok(auditJournal.getStats());
+    }
+}
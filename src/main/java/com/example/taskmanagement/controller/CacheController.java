@@ -0,0 +1,20 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.service.CacheStatsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+    
+    @Autowired
+    private CacheStatsService cacheStatsService;
+    
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Map<String, Object>>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getRegionStats());
+    }
+}
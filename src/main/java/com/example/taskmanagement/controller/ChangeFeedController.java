@@ -0,0 +1,80 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.changefeed.TaskChangeFeed;
+import com.example.taskmanagement.changefeed.TaskChangeStreams;
+import com.example.taskmanagement.entity.TaskChangePageDTO;
+import com.example.taskmanagement.event.TaskWriteDispatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Incremental sync: take a cursor (GET without since), read the tasks once,
+// then only fetch or stream the changes after the cursor. Changes that raced
+// with the full read come again as upserts, which apply idempotently.
+// 410 Gone = the cursor is too old, start over.
+@RestController
+@RequestMapping("/api/tasks/changes")
+public class ChangeFeedController {
+    
+    private static final int MAX_LIMIT = 1000;
+    
+    @Autowired
+    private TaskChangeFeed changeFeed;
+    
+    @Autowired
+    private TaskChangeStreams changeStreams;
+    
+    @Autowired
+    private TaskWriteDispatcher writeDispatcher;
+    
+    // Without since: no changes, just the current cursor
+    @GetMapping
+    public ResponseEntity<?> getChanges(@RequestParam(required = false) String since,
+                                        @RequestParam(defaultValue = "500") int limit) {
+        if (since == null) {
+            return ResponseEntity.ok(new TaskChangePageDTO(List.of(), changeFeed.currentCursor(), false));
+        }
+        try {
+            Optional<TaskChangePageDTO> page = changeFeed.readSince(since, Math.min(limit, MAX_LIMIT));
+            if (page.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.GONE)
+                        .body("Error: cursor " + since + " has expired, re-read the tasks and start from "
+                                + changeFeed.currentCursor());
+            }
+            return ResponseEntity.ok(page.get());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+    
+    // SSE: upsert/delete events from since (or Last-Event-ID on reconnect)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamChanges(
+            @RequestParam(required = false) String since,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        try {
+            Optional<SseEmitter> emitter = changeStreams.open(lastEventId != null ? lastEventId : since);
+            if (emitter.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Error: too many open streams");
+            }
+            return ResponseEntity.ok(emitter.get());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+    
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(changeFeed.getStats());
+        stats.putAll(changeStreams.getStats());
+        stats.put("staleWritesDropped", writeDispatcher.getStaleWrites());
+        return ResponseEntity.ok(stats);
+    }
+}
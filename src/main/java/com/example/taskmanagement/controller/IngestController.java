@@ -0,0 +1,49 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.entity.IngestTicketDTO;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.ingest.TaskIngestQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/ingest")
+public class IngestController {
+    
+    @Autowired
+    private TaskIngestQueue ingestQueue;
+    
+    // Queue a task for batched creation: 202 with a ticket to poll,
+    // 429 when the queue is full
+    @PostMapping("/tasks/user/{userId}")
+    public ResponseEntity<?> submitTask(@PathVariable Long userId, @RequestBody Task task) {
+        try {
+            Optional<IngestTicketDTO> ticket = ingestQueue.submit(userId, task);
+            if (ticket.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header("Retry-After", "1")
+                        .body("Error: ingest queue is full, retry later");
+            }
+            return ResponseEntity.accepted().body(ticket.get());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+    
+    // QUEUED, CREATED (with the task id) or FAILED (with the reason)
+    @GetMapping("/tickets/{ticket}")
+    public ResponseEntity<IngestTicketDTO> getTicket(@PathVariable long ticket) {
+        return ingestQueue.getTicket(ticket)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(ingestQueue.getStats());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.jdbc.AdmissionControlDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/jdbc")
+public class JdbcController {
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+    
+    // Threading mode and the admission limiter's permits, queue and wait times
+    @GetMapping("/admission")
+    public ResponseEntity<Map<String, Object>> getAdmissionStats() throws SQLException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("virtualThreads", virtualThreads);
+        boolean enabled = dataSource.isWrapperFor(AdmissionControlDataSource.class);
+        result.put("enabled", enabled);
+        if (enabled) {
+            result.putAll(dataSource.unwrap(AdmissionControlDataSource.class).getStats());
+        }
+        return ResponseEntity.ok(result);
+    }
+}
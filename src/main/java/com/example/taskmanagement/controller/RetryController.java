@@ -0,0 +1,21 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.retry.OptimisticRetryExecutor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/retries")
+public class RetryController {
+    
+    @Autowired
+    private OptimisticRetryExecutor retryExecutor;
+    
+    // Per operation: attempts, conflicts, retries, give-ups and time spent backing off
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Map<String, Object>>> getStats() {
+        return ResponseEntity.ok(retryExecutor.getStats());
+    }
+}
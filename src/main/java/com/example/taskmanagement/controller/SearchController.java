@@ -0,0 +1,21 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.search.TaskSearchEngine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+    
+    @Autowired
+    private TaskSearchEngine searchEngine;
+    
+    // Compiled query shapes with their hit rates, executions and timings
+    @GetMapping("/shapes")
+    public ResponseEntity<Map<String, Object>> getShapeStats() {
+        return ResponseEntity.ok(searchEngine.getStats());
+    }
+}
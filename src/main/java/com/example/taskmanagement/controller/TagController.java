@@ -2,10 +2,13 @@ package com.example.taskmanagement.controller;
 
 import com.example.taskmanagement.entity.Tag;
 import com.example.taskmanagement.service.TagService;
+import com.example.taskmanagement.etag.ETagService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -15,16 +18,27 @@ public class TagController {
     @Autowired
     private TagService tagService;
     
+    @Autowired
+    private ETagService eTagService;
+    
     @PostMapping
     public ResponseEntity<Tag> createTag(@RequestBody Tag tag) {
         Tag createdTag = tagService.createTag(tag);
         return new ResponseEntity<>(createdTag, HttpStatus.CREATED);
     }
     
+    // Conditional GET: 304 when nothing changed since the client's ETag
     @GetMapping
-    public ResponseEntity<List<Tag>> getAllTags() {
+    public ResponseEntity<List<Tag>> getAllTags(WebRequest request) {
+        String eTag = eTagService.tagsETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         List<Tag> tags = tagService.getAllTags();
-        return ResponseEntity.ok(tags);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(tags);
     }
     
     @GetMapping("/{id}")
@@ -3,16 +3,36 @@ package com.example.taskmanagement.controller;
 
 import com.example.taskmanagement.entity.Task;
 import com.example.taskmanagement.entity.TaskSearchDTO;
+import com.example.taskmanagement.entity.TaskCursorPage;
+import com.example.taskmanagement.entity.BulkCreateResultDTO;
+import com.example.taskmanagement.entity.BatchDeleteResultDTO;
+import com.example.taskmanagement.entity.TaskSummaryDTO;
+import com.example.taskmanagement.entity.TaskCountsDTO;
+import com.example.taskmanagement.entity.TaskStatus;
+import com.example.taskmanagement.entity.TaskField;
+import com.example.taskmanagement.entity.StatusTransitionDTO;
+import com.example.taskmanagement.entity.StatusTransitionResultDTO;
 import com.example.taskmanagement.service.TaskService;
+import com.example.taskmanagement.etag.ETagService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.SerializationFeature;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -21,47 +41,159 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
     
+    @Autowired
+    private ETagService eTagService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     @PostMapping("/user/{userId}")
     public ResponseEntity<Task> createTask(@PathVariable Long userId, @RequestBody Task task) {
         Task createdTask = taskService.createTask(userId, task);
         return new ResponseEntity<>(createdTask, HttpStatus.CREATED);
     }
     
+    // Bulk create: batched INSERTs, flushed and cleared per chunk
+    @PostMapping("/user/{userId}/bulk")
+    public ResponseEntity<BulkCreateResultDTO> createTasksInBulk(@PathVariable Long userId,
+                                                                 @RequestBody List<Task> tasks) {
+        BulkCreateResultDTO result = taskService.createTasksInBulk(userId, tasks);
+        return new ResponseEntity<>(result, HttpStatus.CREATED);
+    }
+    
+    // Conditional GET: If-None-Match against the table watermark, checked
+    // before any task is loaded (a null return is the 304).
+    // fields=id,title,status selects just those columns (id is always included).
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks() {
-        List<Task> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<?> getAllTasks(@RequestParam(required = false) String fields, WebRequest request) {
+        List<TaskField> fieldSet;
+        try {
+            fieldSet = fields != null ? TaskField.parse(fields) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+        String eTag = eTagService.tasksETag(fieldSet);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        Object tasks = fieldSet != null ? taskService.getAllTaskFields(fieldSet) : taskService.getAllTasks();
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(tasks);
+    }
+
+    // Streaming export (Accept: application/x-ndjson)
+    // One JSON document per line, written while the DB cursor is still open
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllTasks() {
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream)) {
+                taskService.streamAllTasks(writer::write);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
     
+    // Conditional GET on id + version: a 304 costs one version lookup
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<Task> getTaskById(@PathVariable Long id, WebRequest request) {
+        Optional<String> eTag = eTagService.taskETag(id);
+        if (eTag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(eTag.get())) {
+            return null;
+        }
         return taskService.getTaskById(id)
-                .map(ResponseEntity::ok)
+                .map(task -> ResponseEntity.ok()
+                        .eTag(eTagService.taskETag(task))
+                        .cacheControl(CacheControl.noCache())
+                        .body(task))
                 .orElse(ResponseEntity.notFound().build());
     }
     
     // Advanced search with Specifications
+    // facets=true wraps the hits with per-facet counts (status, priority, tag, user)
+    // fields= returns only the listed fields (not combinable with facets)
     @PostMapping("/search")
-    public ResponseEntity<List<Task>> searchTasks(@RequestBody TaskSearchDTO searchDTO) {
+    public ResponseEntity<?> searchTasks(@RequestBody TaskSearchDTO searchDTO,
+                                         @RequestParam(defaultValue = "false") boolean facets,
+                                         @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            try {
+                return ResponseEntity.ok(taskService.searchTaskFields(searchDTO, TaskField.parse(fields)));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+            }
+        }
+        if (facets) {
+            return ResponseEntity.ok(taskService.searchTasksWithFacets(searchDTO));
+        }
         List<Task> tasks = taskService.searchTasks(searchDTO);
         return ResponseEntity.ok(tasks);
     }
     
+    // Projection search: flat summaries with tag names, no entity hydration
+    @PostMapping("/search/summary")
+    public ResponseEntity<List<TaskSummaryDTO>> searchTaskSummaries(@RequestBody TaskSearchDTO searchDTO) {
+        List<TaskSummaryDTO> summaries = taskService.searchTaskSummaries(searchDTO);
+        return ResponseEntity.ok(summaries);
+    }
+    
     // Advanced search with pagination
     @PostMapping("/search/paginated")
-    public ResponseEntity<Page<Task>> searchTasksPaginated(
+    public ResponseEntity<?> searchTasksPaginated(
             @RequestBody TaskSearchDTO searchDTO,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String direction) {
+            @RequestParam(defaultValue = "DESC") String direction,
+            @RequestParam(required = false) String fields) {
         
         Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC") 
             ? Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
         
-        Page<Task> tasks = taskService.searchTasksWithPagination(searchDTO, pageable);
-        return ResponseEntity.ok(tasks);
+        try {
+            if (fields != null) {
+                return ResponseEntity.ok(taskService.searchTaskFieldsWithPagination(
+                        searchDTO, TaskField.parse(fields), pageable));
+            }
+            Page<Task> tasks = taskService.searchTasksWithPagination(searchDTO, pageable);
+            return ResponseEntity.ok(tasks);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+    
+    // Advanced search with keyset (cursor) pagination
+    // sortBy is limited to index-backed keys (createdAt, id); pass the
+    // returned nextCursor back to get the following page
+    @PostMapping("/search/cursor")
+    public ResponseEntity<?> searchTasksWithCursor(
+            @RequestBody TaskSearchDTO searchDTO,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") String direction,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC") 
+            ? Sort.Direction.ASC : Sort.Direction.DESC;
+        
+        try {
+            TaskCursorPage tasks = taskService.searchTasksWithCursor(
+                    searchDTO, cursor, size, sortBy, sortDirection, includeTotal);
+            return ResponseEntity.ok(tasks);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
     }
     
     // Update with optimistic locking
@@ -102,10 +234,53 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
     
-    // Batch delete
+    // Batch delete (set-based, reports how many rows were deleted)
     @DeleteMapping("/batch")
-    public ResponseEntity<Void> deleteMultipleTasks(@RequestBody List<Long> taskIds) {
-        taskService.deleteMultipleTasks(taskIds);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<BatchDeleteResultDTO> deleteMultipleTasks(@RequestBody List<Long> taskIds) {
+        BatchDeleteResultDTO result = taskService.deleteMultipleTasks(taskIds);
+        return ResponseEntity.ok(result);
+    }
+    
+    // Dashboard counts by status and priority, optionally for one user.
+    // Served from the in-memory counters, no aggregate query.
+    @GetMapping("/counts")
+    public ResponseEntity<TaskCountsDTO> getTaskCounts(@RequestParam(required = false) Long userId) {
+        return ResponseEntity.ok(taskService.getTaskCounts(userId));
+    }
+    
+    // Move every task in one status to another (set-based)
+    @PutMapping("/status/bulk")
+    public ResponseEntity<?> bulkUpdateStatus(@RequestParam String from, @RequestParam String to) {
+        try {
+            int updated = taskService.bulkUpdateStatus(TaskStatus.fromValue(from), TaskStatus.fromValue(to));
+            return ResponseEntity.ok(updated);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+    
+    // Batch of (id, expectedVersion, newStatus) moves, each checked against
+    // its version; the response has one UPDATED/CONFLICT/NOT_FOUND per item
+    @PostMapping("/status/transitions")
+    public ResponseEntity<?> transitionStatuses(@RequestBody List<StatusTransitionDTO> transitions) {
+        try {
+            List<StatusTransitionResultDTO> results = taskService.transitionStatuses(transitions);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+    
+    // Delete tasks in a status created before the given time
+    @DeleteMapping("/old")
+    public ResponseEntity<?> deleteOldTasksByStatus(
+            @RequestParam String status,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before) {
+        try {
+            BatchDeleteResultDTO result = taskService.deleteOldTasksByStatus(TaskStatus.fromValue(status), before);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
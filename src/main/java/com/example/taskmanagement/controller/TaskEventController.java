@@ -0,0 +1,28 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.event.CountingTaskEventSink;
+import com.example.taskmanagement.event.TaskEventPipeline;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/task-events")
+public class TaskEventController {
+    
+    @Autowired
+    private TaskEventPipeline pipeline;
+    
+    @Autowired
+    private CountingTaskEventSink countingSink;
+    
+    // Pipeline health (published/dropped/queued) plus per-type totals
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(pipeline.getStats());
+        stats.put("counts", countingSink.getCounts());
+        return ResponseEntity.ok(stats);
+    }
+}
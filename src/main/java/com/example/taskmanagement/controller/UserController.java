@@ -2,10 +2,13 @@ package com.example.taskmanagement.controller;
 
 import com.example.taskmanagement.entity.User;
 import com.example.taskmanagement.service.UserService;
+import com.example.taskmanagement.etag.ETagService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -15,16 +18,27 @@ public class UserController {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private ETagService eTagService;
+    
     @PostMapping
     public ResponseEntity<User> createUser(@RequestBody User user) {
         User createdUser = userService.createUser(user);
         return new ResponseEntity<>(createdUser, HttpStatus.CREATED);
     }
     
+    // Conditional GET; the ETag also covers the embedded tasks
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
+    public ResponseEntity<List<User>> getAllUsers(WebRequest request) {
+        String eTag = eTagService.usersETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         List<User> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(users);
     }
     
     @GetMapping("/{id}")
@@ -0,0 +1,9 @@
+package com.example.taskmanagement.counter;
+
+
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskStatus;
+
+// One cell of the user x status x priority counter grid
+public record TaskCounterKey(Long userId, TaskStatus status, TaskPriority priority) {
+}
@@ -0,0 +1,320 @@
+package com.example.taskmanagement.counter;
+
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskCountsDTO;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskSnapshot;
+import com.example.taskmanagement.entity.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Materialized task counts per (user, status, priority), so dashboards read
+// counts in O(1) instead of running aggregate queries.
+//
+// Two copies are kept: striped LongAdders in memory (what reads use) and the
+// task_counters table. Every write path reports deltas here: entity
+// callbacks through TaskLifecycleListener, set-based bulk paths with the
+// rows they locked before their statement. Deltas are buffered per
+// transaction; in beforeCommit the persistence context is flushed (so no
+// callback is still pending) and the deltas are written to task_counters in
+// the same transaction; the in-memory adders follow in afterCommit. A
+// rollback drops both. rebuild() recomputes everything from the tasks table.
+@Component
+public class TaskCounterStore implements TransactionExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCounterStore.class);
+
+    private static final String APPLY_DELTA =
+            "MERGE INTO task_counters c " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS SMALLINT), CAST(? AS SMALLINT), CAST(? AS BIGINT))) " +
+            "AS d (user_id, status, priority, delta) " +
+            "ON c.user_id = d.user_id AND c.status = d.status AND c.priority = d.priority " +
+            "WHEN MATCHED THEN UPDATE SET task_count = c.task_count + d.delta " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, status, priority, task_count) " +
+            "VALUES (d.user_id, d.status, d.priority, d.delta)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Lazy: this store is also one of the transaction manager's execution
+    // listeners (see afterBegin), so it exists before the manager does
+    @Autowired
+    @Lazy
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Swapped wholesale on rebuild
+    private volatile Counters counters = new Counters();
+
+    private static final class Counters {
+        final Map<TaskCounterKey, LongAdder> cells = new ConcurrentHashMap<>();
+        final Map<TaskStatus, LongAdder> byStatus = new EnumMap<>(TaskStatus.class);
+        final Map<TaskPriority, LongAdder> byPriority = new EnumMap<>(TaskPriority.class);
+
+        Counters() {
+            // Fully populated up front, so the EnumMaps are only ever read
+            for (TaskStatus status : TaskStatus.values()) byStatus.put(status, new LongAdder());
+            for (TaskPriority priority : TaskPriority.values()) byPriority.put(priority, new LongAdder());
+        }
+
+        void add(TaskCounterKey key, long delta) {
+            cells.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            byStatus.get(key.status()).add(delta);
+            byPriority.get(key.priority()).add(delta);
+        }
+    }
+
+    // ========================================
+    // READS
+    // ========================================
+
+    public long count(Long userId, TaskStatus status, TaskPriority priority) {
+        LongAdder cell = counters.cells.get(new TaskCounterKey(userId, status, priority));
+        return cell != null ? cell.sum() : 0;
+    }
+
+    public long countByStatus(TaskStatus status) {
+        return counters.byStatus.get(status).sum();
+    }
+
+    public long countByPriority(TaskPriority priority) {
+        return counters.byPriority.get(priority).sum();
+    }
+
+    // Totals, or one user's counts (status x priority cells summed: a fixed 9 lookups)
+    public TaskCountsDTO getCounts(Long userId) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        long total = 0;
+        if (userId == null) {
+            for (TaskStatus status : TaskStatus.values()) {
+                long n = countByStatus(status);
+                byStatus.put(status, n);
+                total += n;
+            }
+            for (TaskPriority priority : TaskPriority.values()) {
+                byPriority.put(priority, countByPriority(priority));
+            }
+        } else {
+            for (TaskStatus status : TaskStatus.values()) {
+                for (TaskPriority priority : TaskPriority.values()) {
+                    long n = count(userId, status, priority);
+                    byStatus.merge(status, n, Long::sum);
+                    byPriority.merge(priority, n, Long::sum);
+                    total += n;
+                }
+            }
+        }
+        return new TaskCountsDTO(userId, total, byStatus, byPriority);
+    }
+
+    // ========================================
+    // ENTITY PATH (called from TaskLifecycleListener)
+    // ========================================
+
+    // Every read-write transaction gets its buffer when it begins: an entity
+    // flushed by the commit itself reports its delta after beforeCommit has
+    // been handed out, too late to register a synchronization then
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure == null && !transaction.isReadOnly()) {
+            currentPendingDeltas();
+        }
+    }
+
+    public void created(Task task) {
+        record(keyOf(task), 1);
+    }
+
+    // Task.getLoadedState() is the row before this update (see TaskLifecycleListener)
+    public void updated(Task task) {
+        TaskSnapshot before = task.getLoadedState();
+        if (before == null) {
+            return;
+        }
+        TaskCounterKey previous = new TaskCounterKey(before.getUserId(), before.getStatus(), before.getPriority());
+        TaskCounterKey key = keyOf(task);
+        if (!previous.equals(key)) {
+            record(previous, -1);
+            record(key, 1);
+        }
+    }
+
+    public void removed(Task task) {
+        TaskSnapshot before = task.getLoadedState();
+        record(before != null ? new TaskCounterKey(before.getUserId(), before.getStatus(), before.getPriority())
+                : keyOf(task), -1);
+    }
+
+    private static TaskCounterKey keyOf(Task task) {
+        Long userId = task.getUser() != null ? task.getUser().getId() : null;
+        return new TaskCounterKey(userId, task.getStatus(), task.getPriority());
+    }
+
+    // ========================================
+    // BULK PATHS (one key per row locked with SELECT ... FOR UPDATE)
+    // ========================================
+
+    // Locked rows, as they were before the UPDATE, that move to another status
+    public void statusChanged(Collection<TaskCounterKey> rows, TaskStatus to) {
+        for (TaskCounterKey row : rows) {
+            record(row, -1);
+            record(new TaskCounterKey(row.userId(), to, row.priority()), 1);
+        }
+    }
+
+    // A single row moved by a conditional UPDATE (batch transitions)
+    public void statusChanged(Long userId, TaskPriority priority, TaskStatus from, TaskStatus to) {
+        if (from == to) {
+            return;
+        }
+        record(new TaskCounterKey(userId, from, priority), -1);
+        record(new TaskCounterKey(userId, to, priority), 1);
+    }
+
+    // Locked rows that were deleted
+    public void deleted(Collection<TaskCounterKey> rows) {
+        for (TaskCounterKey row : rows) {
+            record(row, -1);
+        }
+    }
+
+    private void record(TaskCounterKey key, long delta) {
+        if (key.status() == null || key.priority() == null || delta == 0) {
+            return;
+        }
+        PendingDeltas pending = currentPendingDeltas();
+        if (pending == null) {
+            writeDeltas(Map.of(key, delta));
+            counters.add(key, delta);
+        } else {
+            pending.deltas.merge(key, delta, Long::sum);
+        }
+    }
+
+    // ========================================
+    // REBUILD
+    // ========================================
+
+    // Recomputes task_counters and the in-memory adders from the tasks table.
+    // Run at startup (TaskWriteReplayer) and after loads that bypass JPA.
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Counters rebuilt = new Counters();
+        tx.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM task_counters");
+            jdbcTemplate.update("INSERT INTO task_counters (user_id, status, priority, task_count) " +
+                    "SELECT user_id, status, priority, COUNT(*) FROM tasks GROUP BY user_id, status, priority");
+            jdbcTemplate.query("SELECT user_id, status, priority, task_count FROM task_counters", rs -> {
+                TaskCounterKey key = new TaskCounterKey(rs.getLong(1),
+                        TaskStatus.fromCode(rs.getShort(2)), TaskPriority.fromCode(rs.getShort(3)));
+                rebuilt.add(key, rs.getLong(4));
+            });
+        });
+        counters = rebuilt;
+        log.info("Rebuilt {} task counter cells in {} ms", rebuilt.cells.size(), System.currentTimeMillis() - start);
+    }
+
+    // ========================================
+    // TRANSACTION BINDING
+    // ========================================
+
+    private void writeDeltas(Map<TaskCounterKey, Long> deltas) {
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                rows.add(new Object[]{key.userId(), key.status().getCode(), key.priority().getCode(), delta});
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(APPLY_DELTA, rows);
+        }
+    }
+
+    // Returns the buffer of the current transaction (creating it on first
+    // use), or null when there is no transaction and deltas apply immediately.
+    // The buffer is found among the transaction's own synchronizations rather
+    // than bound as a resource: REQUIRES_NEW suspends the synchronizations
+    // but not custom resources, so an inner transaction would otherwise add
+    // its deltas to the outer one's buffer.
+    private PendingDeltas currentPendingDeltas() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingDeltas pending) {
+                return pending;
+            }
+        }
+        PendingDeltas pending = new PendingDeltas();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private class PendingDeltas implements TransactionSynchronization {
+
+        private final Map<TaskCounterKey, Long> deltas = new HashMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (readOnly) {
+                return;
+            }
+            // Runs the remaining Post* callbacks now rather than inside commit.
+            // Calls on the shared EntityManager are not exception-translated;
+            // a version conflict found here must surface as the same
+            // OptimisticLockingFailureException a commit would throw.
+            try {
+                entityManager.flush();
+            } catch (RuntimeException e) {
+                DataAccessException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+                throw translated != null ? translated : e;
+            }
+            writeDeltas(deltas);
+        }
+
+        @Override
+        public void afterCommit() {
+            Counters current = counters;
+            deltas.forEach((key, delta) -> {
+                if (delta != 0) {
+                    current.add(key, delta);
+                }
+            });
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_UNKNOWN) {
+                log.warn("Transaction outcome unknown; task counters may drift until the next rebuild");
+            }
+        }
+    }
+}
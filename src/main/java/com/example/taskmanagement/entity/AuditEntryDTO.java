@@ -0,0 +1,94 @@
+package com.example.taskmanagement.entity;
+
+
+import java.time.LocalDateTime;
+
+// One record of the audit journal: a committed change to one task, with the
+// task as it was before and after. before is null for CREATE, after is null
+// for DELETE and BULK_DELETE; either image may lack tagNames (not loaded).
+public class AuditEntryDTO {
+    
+    public enum Operation {
+        CREATE,
+        UPDATE,
+        DELETE,
+        BULK_UPDATE,
+        BULK_DELETE
+    }
+    
+    private long lsn;
+    private LocalDateTime recordedAt;
+    private Operation operation;
+    private Long taskId;
+    private String actor;
+    private TaskSnapshot before;
+    private TaskSnapshot after;
+    
+    public AuditEntryDTO(long lsn, LocalDateTime recordedAt, Operation operation, Long taskId, String actor,
+                         TaskSnapshot before, TaskSnapshot after) {
+        this.lsn = lsn;
+        this.recordedAt = recordedAt;
+        this.operation = operation;
+        this.taskId = taskId;
+        this.actor = actor;
+        this.before = before;
+        this.after = after;
+    }
+    
+    // Getters and Setters
+    public long getLsn() {
+        return lsn;
+    }
+    
+    public void setLsn(long lsn) {
+        this.lsn = lsn;
+    }
+    
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+    
+    public void setRecordedAt(LocalDateTime recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+    
+    public Operation getOperation() {
+        return operation;
+    }
+    
+    public void setOperation(Operation operation) {
+        this.operation = operation;
+    }
+    
+    public Long getTaskId() {
+        return taskId;
+    }
+    
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+    
+    public String getActor() {
+        return actor;
+    }
+    
+    public void setActor(String actor) {
+        this.actor = actor;
+    }
+    
+    public TaskSnapshot getBefore() {
+        return before;
+    }
+    
+    public void setBefore(TaskSnapshot before) {
+        this.before = before;
+    }
+    
+    public TaskSnapshot getAfter() {
+        return after;
+    }
+    
+    public void setAfter(TaskSnapshot after) {
+        this.after = after;
+    }
+}
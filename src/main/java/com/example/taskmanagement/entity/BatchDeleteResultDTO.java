@@ -0,0 +1,29 @@
+package com.example.taskmanagement.entity;
+
+
+public class BatchDeleteResultDTO {
+    private int requested;
+    private int deleted;
+    
+    public BatchDeleteResultDTO(int requested, int deleted) {
+        this.requested = requested;
+        this.deleted = deleted;
+    }
+    
+    // Getters and Setters
+    public int getRequested() {
+        return requested;
+    }
+    
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+    
+    public int getDeleted() {
+        return deleted;
+    }
+    
+    public void setDeleted(int deleted) {
+        this.deleted = deleted;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.taskmanagement.entity;
+
+
+import java.util.List;
+
+public class BulkCreateResultDTO {
+    private int created;
+    private List<Long> ids;
+    
+    public BulkCreateResultDTO(int created, List<Long> ids) {
+        this.created = created;
+        this.ids = ids;
+    }
+    
+    // Getters and Setters
+    public int getCreated() {
+        return created;
+    }
+    
+    public void setCreated(int created) {
+        this.created = created;
+    }
+    
+    public List<Long> getIds() {
+        return ids;
+    }
+    
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.taskmanagement.entity;
+
+
+import java.time.LocalDateTime;
+
+// Where an asynchronously submitted task is: still queued, created (with
+// its id) or failed (with the reason)
+public class IngestTicketDTO {
+    
+    public enum Status {
+        QUEUED,
+        CREATED,
+        FAILED
+    }
+    
+    private long ticket;
+    private Status status;
+    private Long taskId;
+    private String error;
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+    
+    public IngestTicketDTO(long ticket, Status status, Long taskId, String error,
+                           LocalDateTime submittedAt, LocalDateTime completedAt) {
+        this.ticket = ticket;
+        this.status = status;
+        this.taskId = taskId;
+        this.error = error;
+        this.submittedAt = submittedAt;
+        this.completedAt = completedAt;
+    }
+    
+    // Getters and Setters
+    public long getTicket() {
+        return ticket;
+    }
+    
+    public void setTicket(long ticket) {
+        this.ticket = ticket;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+    
+    public Long getTaskId() {
+        return taskId;
+    }
+    
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+    
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+    
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+    
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+    
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
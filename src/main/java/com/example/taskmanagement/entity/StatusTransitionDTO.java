@@ -0,0 +1,44 @@
+package com.example.taskmanagement.entity;
+
+
+// One item of a batch status transition: move task id to newStatus,
+// but only if it is still at expectedVersion
+public class StatusTransitionDTO {
+    private Long id;
+    private Long expectedVersion;
+    private TaskStatus newStatus;
+    
+    public StatusTransitionDTO() {
+    }
+    
+    public StatusTransitionDTO(Long id, Long expectedVersion, TaskStatus newStatus) {
+        this.id = id;
+        this.expectedVersion = expectedVersion;
+        this.newStatus = newStatus;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+    
+    public void setExpectedVersion(Long expectedVersion) {
+        this.expectedVersion = expectedVersion;
+    }
+    
+    public TaskStatus getNewStatus() {
+        return newStatus;
+    }
+    
+    public void setNewStatus(TaskStatus newStatus) {
+        this.newStatus = newStatus;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.taskmanagement.entity;
+
+
+// Per-item outcome of a batch status transition, in request order
+public class StatusTransitionResultDTO {
+    
+    public enum Outcome {
+        UPDATED,
+        CONFLICT,   // the task is no longer at expectedVersion
+        NOT_FOUND
+    }
+    
+    private Long id;
+    private Outcome outcome;
+    private Long version; // the new version when UPDATED
+    
+    public StatusTransitionResultDTO(Long id, Outcome outcome, Long version) {
+        this.id = id;
+        this.outcome = outcome;
+        this.version = version;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Outcome getOutcome() {
+        return outcome;
+    }
+    
+    public void setOutcome(Outcome outcome) {
+        this.outcome = outcome;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
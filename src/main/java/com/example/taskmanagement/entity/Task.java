@@ -2,16 +2,27 @@ package com.example.taskmanagement.entity;
 
 
 import jakarta.persistence.*;
+import com.example.taskmanagement.event.TaskLifecycleListener;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    // Backs keyset pagination on (createdAt, id)
+    @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+    // Two SMALLINT columns: 4 bytes of key per row
+    @Index(name = "idx_tasks_status_priority", columnList = "status, priority")
+})
+@EntityListeners(TaskLifecycleListener.class)
 public class Task extends Auditable {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence: one round trip reserves a block of ids, so Hibernate
+    // can batch INSERTs (IDENTITY forces one INSERT per row)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 100)
     private Long id;
     
     @Column(nullable = false, length = 100)
@@ -20,11 +31,14 @@ public class Task extends Auditable {
     @Column(length = 500)
     private String description;
     
+    // Stored as SMALLINT codes (see TaskStatus / TaskPriority)
     @Column(nullable = false)
-    private String status = "TODO";
+    @Convert(converter = TaskStatusConverter.class)
+    private TaskStatus status = TaskStatus.TODO;
     
     @Column(nullable = false)
-    private String priority = "MEDIUM";
+    @Convert(converter = TaskPriorityConverter.class)
+    private TaskPriority priority = TaskPriority.MEDIUM;
     
     // ⭐ OPTIMISTIC LOCKING ⭐
     // Version field for handling concurrent updates
@@ -37,6 +51,13 @@ public class Task extends Auditable {
     @JsonBackReference
     private User user;
     
+    // The row as the database has it, set by TaskLifecycleListener only while
+    // an update or delete of this task is being flushed (from Hibernate's
+    // loaded state). TaskCounterStore diffs against it; it is AuditJournal's
+    // before image.
+    @Transient
+    private TaskSnapshot loadedState;
+    
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinTable(
         name = "task_tags",
@@ -49,54 +70,27 @@ public class Task extends Auditable {
     @PrePersist
     protected void onCreate() {
         if (status == null) {
-            status = "TODO";
+            status = TaskStatus.TODO;
         }
         if (priority == null) {
-            priority = "MEDIUM";
+            priority = TaskPriority.MEDIUM;
         }
     }
     
-    @PostPersist
-    protected void afterCreate() {
-        System.out.println("Task created: " + this.title);
-    }
-    
-    @PreUpdate
-    protected void onUpdate() {
-        System.out.println("Task updated: " + this.title);
-    }
-    
-    @PostUpdate
-    protected void afterUpdate() {
-        System.out.println("Task update completed: " + this.title);
-    }
-    
-    @PreRemove
-    protected void onDelete() {
-        System.out.println("Task about to be deleted: " + this.title);
-    }
-    
-    @PostRemove
-    protected void afterDelete() {
-        System.out.println("Task deleted: " + this.title);
-    }
-    
-    @PostLoad
-    protected void onLoad() {
-        System.out.println("Task loaded from database: " + this.title);
-    }
+    // Post-persist/update/remove/load callbacks live in TaskLifecycleListener,
+    // which hands them to the async TaskEventPipeline
     
     // Constructors
     public Task() {
-        this.status = "TODO";
-        this.priority = "MEDIUM";
+        this.status = TaskStatus.TODO;
+        this.priority = TaskPriority.MEDIUM;
     }
     
-    public Task(String title, String description, String status) {
+    public Task(String title, String description, TaskStatus status) {
         this.title = title;
         this.description = description;
         this.status = status;
-        this.priority = "MEDIUM";
+        this.priority = TaskPriority.MEDIUM;
     }
     
     // Helper methods
@@ -135,19 +129,19 @@ public class Task extends Auditable {
         this.description = description;
     }
     
-    public String getStatus() {
+    public TaskStatus getStatus() {
         return status;
     }
     
-    public void setStatus(String status) {
+    public void setStatus(TaskStatus status) {
         this.status = status;
     }
     
-    public String getPriority() {
+    public TaskPriority getPriority() {
         return priority;
     }
     
-    public void setPriority(String priority) {
+    public void setPriority(TaskPriority priority) {
         this.priority = priority;
     }
     
@@ -170,4 +164,13 @@ public class Task extends Auditable {
     public void setTags(Set<Tag> tags) {
         this.tags = tags;
     }
-}
\ No newline at end of file
+    
+    @JsonIgnore
+    public TaskSnapshot getLoadedState() {
+        return loadedState;
+    }
+    
+    public void setLoadedState(TaskSnapshot loadedState) {
+        this.loadedState = loadedState;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.taskmanagement.entity;
+
+
+import java.time.LocalDateTime;
+
+// One committed change in the task change feed. Deletes are tombstones:
+// only the task id, no snapshot.
+public class TaskChangeDTO {
+    
+    public enum Type {
+        UPSERT,
+        DELETE
+    }
+    
+    private long sequence;
+    private Type type;
+    private Long taskId;
+    private TaskSnapshot task; // null for DELETE
+    private LocalDateTime changedAt;
+    
+    public TaskChangeDTO(long sequence, Type type, Long taskId, TaskSnapshot task, LocalDateTime changedAt) {
+        this.sequence = sequence;
+        this.type = type;
+        this.taskId = taskId;
+        this.task = task;
+        this.changedAt = changedAt;
+    }
+    
+    // Getters and Setters
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+    
+    public Type getType() {
+        return type;
+    }
+    
+    public void setType(Type type) {
+        this.type = type;
+    }
+    
+    public Long getTaskId() {
+        return taskId;
+    }
+    
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+    
+    public TaskSnapshot getTask() {
+        return task;
+    }
+    
+    public void setTask(TaskSnapshot task) {
+        this.task = task;
+    }
+    
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+    
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
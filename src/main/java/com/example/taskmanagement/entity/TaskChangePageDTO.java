@@ -0,0 +1,43 @@
+package com.example.taskmanagement.entity;
+
+
+import java.util.List;
+
+// Changes after a cursor, oldest first. Pass nextCursor as since= to continue;
+// hasMore means the limit cut the page short.
+public class TaskChangePageDTO {
+    private List<TaskChangeDTO> changes;
+    private String nextCursor;
+    private boolean hasMore;
+    
+    public TaskChangePageDTO(List<TaskChangeDTO> changes, String nextCursor, boolean hasMore) {
+        this.changes = changes;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+    
+    // Getters and Setters
+    public List<TaskChangeDTO> getChanges() {
+        return changes;
+    }
+    
+    public void setChanges(List<TaskChangeDTO> changes) {
+        this.changes = changes;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasMore() {
+        return hasMore;
+    }
+    
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
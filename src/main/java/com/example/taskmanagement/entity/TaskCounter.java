@@ -0,0 +1,76 @@
+package com.example.taskmanagement.entity;
+
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.util.Objects;
+
+// Persisted summary behind TaskCounterStore: number of tasks per
+// (user, status, priority). Maintained with set-based JDBC deltas in the
+// same transaction as the task writes; mapped here so the schema exists
+// and so it can be read with JPQL. status / priority hold the SMALLINT codes
+// (converters don't apply to id attributes).
+@Entity
+@Table(name = "task_counters")
+@IdClass(TaskCounter.Key.class)
+public class TaskCounter {
+    
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Id
+    @Column(name = "status")
+    private Short status;
+    
+    @Id
+    @Column(name = "priority")
+    private Short priority;
+    
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+    
+    public TaskCounter() {}
+    
+    // Getters
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public TaskStatus getStatus() {
+        return TaskStatus.fromCode(status);
+    }
+    
+    public TaskPriority getPriority() {
+        return TaskPriority.fromCode(priority);
+    }
+    
+    public long getTaskCount() {
+        return taskCount;
+    }
+    
+    public static class Key implements Serializable {
+        private Long userId;
+        private Short status;
+        private Short priority;
+        
+        public Key() {}
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return Objects.equals(userId, other.userId) && Objects.equals(status, other.status)
+                    && Objects.equals(priority, other.priority);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, status, priority);
+        }
+    }
+}
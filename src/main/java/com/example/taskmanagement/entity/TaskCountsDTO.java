@@ -0,0 +1,51 @@
+package com.example.taskmanagement.entity;
+
+
+import java.util.Map;
+
+public class TaskCountsDTO {
+    private Long userId; // null = all users
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+    private Map<TaskPriority, Long> byPriority;
+    
+    public TaskCountsDTO(Long userId, long total, Map<TaskStatus, Long> byStatus, Map<TaskPriority, Long> byPriority) {
+        this.userId = userId;
+        this.total = total;
+        this.byStatus = byStatus;
+        this.byPriority = byPriority;
+    }
+    
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public long getTotal() {
+        return total;
+    }
+    
+    public void setTotal(long total) {
+        this.total = total;
+    }
+    
+    public Map<TaskStatus, Long> getByStatus() {
+        return byStatus;
+    }
+    
+    public void setByStatus(Map<TaskStatus, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+    
+    public Map<TaskPriority, Long> getByPriority() {
+        return byPriority;
+    }
+    
+    public void setByPriority(Map<TaskPriority, Long> byPriority) {
+        this.byPriority = byPriority;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.taskmanagement.entity;
+
+
+import java.util.List;
+
+public class TaskCursorPage {
+    private List<Task> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalElements; // only filled in when the caller asks for it
+    
+    public TaskCursorPage(List<Task> content, String nextCursor, boolean hasNext, Long totalElements) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.totalElements = totalElements;
+    }
+    
+    // Getters and Setters
+    public List<Task> getContent() {
+        return content;
+    }
+    
+    public void setContent(List<Task> content) {
+        this.content = content;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasNext() {
+        return hasNext;
+    }
+    
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+    
+    public Long getTotalElements() {
+        return totalElements;
+    }
+    
+    public void setTotalElements(Long totalElements) {
+        this.totalElements = totalElements;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.taskmanagement.entity;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Fields a client may ask for with fields= (sparse fieldsets). Each one maps
+// to the attribute path it is read from, so the selection is pushed into the
+// query; tagNames comes from a second query over the task_tags join.
+public enum TaskField {
+    ID("id", "id"),
+    TITLE("title", "title"),
+    DESCRIPTION("description", "description"),
+    STATUS("status", "status"),
+    PRIORITY("priority", "priority"),
+    VERSION("version", "version"),
+    USER_ID("userId", "user.id"), // the FK column, no join
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt"),
+    CREATED_BY("createdBy", "createdBy"),
+    UPDATED_BY("updatedBy", "updatedBy"),
+    TAG_NAMES("tagNames", null);
+    
+    private final String fieldName;
+    private final String path;
+    
+    TaskField(String fieldName, String path) {
+        this.fieldName = fieldName;
+        this.path = path;
+    }
+    
+    public String getFieldName() {
+        return fieldName;
+    }
+    
+    // Attribute path on Task, null for fields not read from the tasks table
+    public String getPath() {
+        return path;
+    }
+    
+    // "id,title,status" -> [ID, TITLE, STATUS]. id is always included (first)
+    // so rows can be matched up; duplicates are ignored.
+    public static List<TaskField> parse(String fields) {
+        List<TaskField> parsed = new ArrayList<>();
+        parsed.add(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            TaskField field = Arrays.stream(values())
+                    .filter(candidate -> candidate.fieldName.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field: " + trimmed + ", allowed: "
+                            + Arrays.stream(values()).map(TaskField::getFieldName).collect(Collectors.joining(","))));
+            if (!parsed.contains(field)) {
+                parsed.add(field);
+            }
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.taskmanagement.entity;
+
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Locale;
+
+// Stored as a SMALLINT through TaskPriorityConverter. The codes are part of the
+// schema: never renumber or reuse one, only append new constants.
+public enum TaskPriority {
+    LOW(0),
+    MEDIUM(1),
+    HIGH(2);
+    
+    private final short code;
+    
+    TaskPriority(int code) {
+        this.code = (short) code;
+    }
+    
+    public short getCode() {
+        return code;
+    }
+    
+    public static TaskPriority fromCode(short code) {
+        for (TaskPriority priority : values()) {
+            if (priority.code == code) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task priority code: " + code);
+    }
+    
+    // Accepts the legacy free-form strings: any case, '-' or ' ' for '_'
+    @JsonCreator
+    public static TaskPriority fromValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT).replace('-', '_').replace(' ', '_');
+        try {
+            return valueOf(normalized);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown task priority: " + value);
+        }
+    }
+    
+    @JsonValue
+    public String toValue() {
+        return name();
+    }
+}
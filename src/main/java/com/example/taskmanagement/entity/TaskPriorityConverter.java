@@ -0,0 +1,19 @@
+package com.example.taskmanagement.entity;
+
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class TaskPriorityConverter implements AttributeConverter<TaskPriority, Short> {
+    
+    @Override
+    public Short convertToDatabaseColumn(TaskPriority priority) {
+        return priority == null ? null : priority.getCode();
+    }
+    
+    @Override
+    public TaskPriority convertToEntityAttribute(Short code) {
+        return code == null ? null : TaskPriority.fromCode(code);
+    }
+}
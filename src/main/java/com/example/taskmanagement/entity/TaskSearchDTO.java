@@ -4,8 +4,8 @@ package com.example.taskmanagement.entity;
 import java.time.LocalDateTime;
 
 public class TaskSearchDTO {
-    private String status;
-    private String priority;
+    private TaskStatus status;
+    private TaskPriority priority;
     private Long userId;
     private String keyword;
     private String tagName;
@@ -16,19 +16,19 @@ public class TaskSearchDTO {
     public TaskSearchDTO() {}
     
     // Getters and Setters
-    public String getStatus() {
+    public TaskStatus getStatus() {
         return status;
     }
     
-    public void setStatus(String status) {
+    public void setStatus(TaskStatus status) {
         this.status = status;
     }
     
-    public String getPriority() {
+    public TaskPriority getPriority() {
         return priority;
     }
     
-    public void setPriority(String priority) {
+    public void setPriority(TaskPriority priority) {
         this.priority = priority;
     }
     
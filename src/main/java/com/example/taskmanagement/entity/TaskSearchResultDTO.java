@@ -0,0 +1,33 @@
+package com.example.taskmanagement.entity;
+
+
+import java.util.List;
+import java.util.Map;
+
+public class TaskSearchResultDTO {
+    private List<Task> hits;
+    // facet name (status, priority, tag, user) -> value -> number of hits
+    private Map<String, Map<String, Long>> facets;
+    
+    public TaskSearchResultDTO(List<Task> hits, Map<String, Map<String, Long>> facets) {
+        this.hits = hits;
+        this.facets = facets;
+    }
+    
+    // Getters and Setters
+    public List<Task> getHits() {
+        return hits;
+    }
+    
+    public void setHits(List<Task> hits) {
+        this.hits = hits;
+    }
+    
+    public Map<String, Map<String, Long>> getFacets() {
+        return facets;
+    }
+    
+    public void setFacets(Map<String, Map<String, Long>> facets) {
+        this.facets = facets;
+    }
+}
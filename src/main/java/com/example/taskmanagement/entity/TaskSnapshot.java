@@ -0,0 +1,106 @@
+package com.example.taskmanagement.entity;
+
+
+import org.hibernate.Hibernate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+// Immutable copy of the Task columns that in-memory indexes care about.
+// Taken at write time (or read with a JPQL constructor expression) so
+// indexes never hold on to managed entities.
+public class TaskSnapshot {
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final TaskStatus status;
+    private final TaskPriority priority;
+    private final Long userId;
+    private final Long version;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Set<String> tagNames; // null = not known (tags were not loaded)
+    
+    // Used by JPQL constructor expressions; tags are read separately
+    public TaskSnapshot(Long id, String title, String description, TaskStatus status, TaskPriority priority,
+                        Long userId, Long version, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, description, status, priority, userId, version, createdAt, updatedAt, null);
+    }
+    
+    public TaskSnapshot(Long id, String title, String description, TaskStatus status, TaskPriority priority,
+                        Long userId, Long version, LocalDateTime createdAt, LocalDateTime updatedAt,
+                        Set<String> tagNames) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.priority = priority;
+        this.userId = userId;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.tagNames = tagNames == null ? null : Collections.unmodifiableSet(tagNames);
+    }
+    
+    // Only reads the tags if they are already loaded; never triggers a lazy load
+    public static TaskSnapshot of(Task task) {
+        Set<String> tagNames = null;
+        if (Hibernate.isInitialized(task.getTags())) {
+            tagNames = new HashSet<>();
+            for (Tag tag : task.getTags()) {
+                tagNames.add(tag.getName());
+            }
+        }
+        Long userId = task.getUser() != null ? task.getUser().getId() : null;
+        return new TaskSnapshot(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getPriority(), userId, task.getVersion(), task.getCreatedAt(), task.getUpdatedAt(),
+                tagNames);
+    }
+    
+    public TaskSnapshot withTagNames(Set<String> tagNames) {
+        return new TaskSnapshot(id, title, description, status, priority, userId, version,
+                createdAt, updatedAt, tagNames);
+    }
+    
+    // Getters
+    public Long getId() {
+        return id;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public TaskStatus getStatus() {
+        return status;
+    }
+    
+    public TaskPriority getPriority() {
+        return priority;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public Set<String> getTagNames() {
+        return tagNames;
+    }
+}
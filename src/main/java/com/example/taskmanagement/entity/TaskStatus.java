@@ -0,0 +1,52 @@
+package com.example.taskmanagement.entity;
+
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Locale;
+
+// Stored as a SMALLINT through TaskStatusConverter. The codes are part of the
+// schema: never renumber or reuse one, only append new constants.
+public enum TaskStatus {
+    TODO(0),
+    IN_PROGRESS(1),
+    DONE(2);
+    
+    private final short code;
+    
+    TaskStatus(int code) {
+        this.code = (short) code;
+    }
+    
+    public short getCode() {
+        return code;
+    }
+    
+    public static TaskStatus fromCode(short code) {
+        for (TaskStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task status code: " + code);
+    }
+    
+    // Accepts the legacy free-form strings: any case, '-' or ' ' for '_'
+    @JsonCreator
+    public static TaskStatus fromValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT).replace('-', '_').replace(' ', '_');
+        try {
+            return valueOf(normalized);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown task status: " + value);
+        }
+    }
+    
+    @JsonValue
+    public String toValue() {
+        return name();
+    }
+}
@@ -1,19 +1,31 @@
 package com.example.taskmanagement.entity;
 
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class TaskSummaryDTO {
     private Long id;
     private String title;
-    private String status;
+    private TaskStatus status;
+    private TaskPriority priority;
     private String username;
+    private List<String> tagNames;
     
-    public TaskSummaryDTO(Long id, String title, String status, String username) {
+    public TaskSummaryDTO(Long id, String title, TaskStatus status, String username) {
         this.id = id;
         this.title = title;
         this.status = status;
         this.username = username;
     }
     
+    // Used by the projection search; tag names are filled in afterwards
+    public TaskSummaryDTO(Long id, String title, TaskStatus status, TaskPriority priority, String username) {
+        this(id, title, status, username);
+        this.priority = priority;
+        this.tagNames = new ArrayList<>();
+    }
+    
     // Getters and Setters
     public Long getId() {
         return id;
@@ -31,14 +43,22 @@ public class TaskSummaryDTO {
         this.title = title;
     }
     
-    public String getStatus() {
+    public TaskStatus getStatus() {
         return status;
     }
     
-    public void setStatus(String status) {
+    public void setStatus(TaskStatus status) {
         this.status = status;
     }
     
+    public TaskPriority getPriority() {
+        return priority;
+    }
+    
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+    
     public String getUsername() {
         return username;
     }
@@ -46,4 +66,12 @@ public class TaskSummaryDTO {
     public void setUsername(String username) {
         this.username = username;
     }
-}
\ No newline at end of file
+    
+    public List<String> getTagNames() {
+        return tagNames;
+    }
+    
+    public void setTagNames(List<String> tagNames) {
+        this.tagNames = tagNames;
+    }
+}
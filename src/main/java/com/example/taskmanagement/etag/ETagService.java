@@ -0,0 +1,73 @@
+package com.example.taskmanagement.etag;
+
+
+import com.example.taskmanagement.changefeed.TaskChangeFeed;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskField;
+import com.example.taskmanagement.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.util.List;
+import java.util.Optional;
+
+// Strong ETags computed without loading entities, so a matching
+// If-None-Match is answered with 304 before any hydration or serialization.
+//
+// - One task: id + version (one primary-key lookup of the version column).
+//   Task JSON embeds its tags, so the tags stamp is included as well.
+// - Task list: the change feed cursor, no query at all. It moves after every
+//   committed task write and delete (TaskWriteDispatcher covers the entity
+//   and bulk paths), and its epoch changes on restart and after a replay,
+//   which is how writes that bypass the dispatcher are picked up.
+// - Tag list / user list: ResourceGenerations counters. Users embed their
+//   tasks, so the user list also carries the task watermark.
+@Service
+public class ETagService {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ResourceGenerations generations;
+
+    @Autowired
+    private TaskChangeFeed changeFeed;
+
+    // Empty when the task does not exist
+    public Optional<String> taskETag(Long id) {
+        return taskRepository.findVersionById(id).map(version -> taskETag(id, version));
+    }
+
+    // For the body actually returned (its version may be newer than the pre-check's)
+    public String taskETag(Task task) {
+        return taskETag(task.getId(), task.getVersion());
+    }
+
+    private String taskETag(Long id, Long version) {
+        return "task-" + id + "-" + version + "-" + generations.tagsStamp();
+    }
+
+    // fields = null for full tasks; each sparse fieldset is a different
+    // representation, so it gets its own tag
+    public String tasksETag(List<TaskField> fields) {
+        String eTag = "tasks-" + taskWatermark() + "-" + generations.tagsStamp();
+        if (fields == null) {
+            return eTag;
+        }
+        StringBuilder withFields = new StringBuilder(eTag).append("-f");
+        fields.forEach(field -> withFields.append('.').append(field.ordinal()));
+        return withFields.toString();
+    }
+
+    public String tagsETag() {
+        return "tags-" + generations.tagsStamp();
+    }
+
+    public String usersETag() {
+        return "users-" + generations.usersStamp() + "-" + taskWatermark() + "-" + generations.tagsStamp();
+    }
+
+    private String taskWatermark() {
+        return changeFeed.currentCursor();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.taskmanagement.etag;
+
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+
+// JPA entity listener on Tag and User: every write moves the matching
+// ResourceGenerations counter (after commit)
+public class GenerationListener {
+    
+    @Autowired
+    @Lazy
+    private ResourceGenerations generations;
+    
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void changed(Object entity) {
+        if (generations != null) {
+            generations.changed(entity);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.taskmanagement.etag;
+
+
+import com.example.taskmanagement.entity.Tag;
+import com.example.taskmanagement.entity.User;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Change counters for tables without a version or updated_at column (tags,
+// users), used as ETag validators for their list endpoints.
+//
+// A counter moves after commit, never before: a reader that sees the new
+// generation is guaranteed to read the new rows. The startup epoch is part
+// of every stamp, so validators handed out by an earlier process (or another
+// instance) never match by accident.
+@Component
+public class ResourceGenerations {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong tags = new AtomicLong();
+    private final AtomicLong users = new AtomicLong();
+
+    public String tagsStamp() {
+        return epoch + "." + tags.get();
+    }
+
+    public String usersStamp() {
+        return epoch + "." + users.get();
+    }
+
+    // Called from GenerationListener for every Tag/User insert, update or delete
+    void changed(Object entity) {
+        AtomicLong counter = counterFor(entity);
+        if (counter == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter.incrementAndGet();
+                }
+            });
+        } else {
+            counter.incrementAndGet();
+        }
+    }
+
+    private AtomicLong counterFor(Object entity) {
+        if (entity instanceof Tag) {
+            return tags;
+        }
+        if (entity instanceof User) {
+            return users;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.taskmanagement.event;
+
+
+import org.springframework.stereotype.Component;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Running totals per event type (LOADED counts are sampled, see TaskEventPipeline)
+@Component
+public class CountingTaskEventSink implements TaskEventSink {
+    
+    private final Map<TaskLifecycleEvent.Type, LongAdder> counts = new EnumMap<>(TaskLifecycleEvent.Type.class);
+    
+    public CountingTaskEventSink() {
+        for (TaskLifecycleEvent.Type type : TaskLifecycleEvent.Type.values()) {
+            counts.put(type, new LongAdder());
+        }
+    }
+    
+    @Override
+    public void accept(List<TaskLifecycleEvent> batch) {
+        for (TaskLifecycleEvent event : batch) {
+            counts.get(event.getType()).increment();
+        }
+    }
+    
+    public Map<TaskLifecycleEvent.Type, Long> getCounts() {
+        Map<TaskLifecycleEvent.Type, Long> snapshot = new EnumMap<>(TaskLifecycleEvent.Type.class);
+        counts.forEach((type, count) -> snapshot.put(type, count.sum()));
+        return snapshot;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.taskmanagement.event;
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+// Replaces the old System.out.println callbacks on Task.
+// Enable with logging.level.com.example.taskmanagement.event=DEBUG
+@Component
+public class LoggingTaskEventSink implements TaskEventSink {
+    
+    private static final Logger log = LoggerFactory.getLogger(LoggingTaskEventSink.class);
+    
+    @Override
+    public void accept(List<TaskLifecycleEvent> batch) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        for (TaskLifecycleEvent event : batch) {
+            log.debug("Task {} {} (version {})", event.getTaskId(), event.getType(), event.getVersion());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.taskmanagement.event;
+
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// In-process pipeline for Task lifecycle events.
+//
+// Producers (JPA callbacks on request threads) only do a lock-free offer
+// into a bounded queue: when the queue is full the event is dropped and
+// counted, the caller never blocks. A single background thread drains the
+// queue in batches and hands each batch to every TaskEventSink.
+@Component
+public class TaskEventPipeline {
+    
+    private static final Logger log = LoggerFactory.getLogger(TaskEventPipeline.class);
+    
+    @Value("${app.task-events.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${app.task-events.queue-capacity:10000}")
+    private int capacity;
+    
+    @Value("${app.task-events.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${app.task-events.flush-interval-ms:200}")
+    private long flushIntervalMs;
+    
+    // Record 1 in N load events (0 = ignore loads entirely)
+    @Value("${app.task-events.load-sample-rate:100}")
+    private int loadSampleRate;
+    
+    @Autowired
+    private List<TaskEventSink> sinks;
+    
+    private final ConcurrentLinkedQueue<TaskLifecycleEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    
+    private ScheduledExecutorService drainer;
+    
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+        drainer.scheduleWithFixedDelay(this::drain, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    void stop() {
+        if (drainer != null) {
+            drainer.shutdown();
+            try {
+                drainer.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            drain(); // whatever is left
+        }
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    // Hot path: called from JPA callbacks. Never blocks.
+    public void publish(TaskLifecycleEvent.Type type, Long taskId, Long version) {
+        if (!enabled) {
+            return;
+        }
+        if (type == TaskLifecycleEvent.Type.LOADED && !sampleLoad()) {
+            sampledOut.increment();
+            return;
+        }
+        // Reserve a slot first so the queue can never grow past capacity
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        queue.offer(new TaskLifecycleEvent(type, taskId, version, System.currentTimeMillis()));
+        published.increment();
+    }
+    
+    private boolean sampleLoad() {
+        if (loadSampleRate <= 0) return false;
+        if (loadSampleRate == 1) return true;
+        return ThreadLocalRandom.current().nextInt(loadSampleRate) == 0;
+    }
+    
+    // Runs on the drain thread only
+    void drain() {
+        List<TaskLifecycleEvent> batch = new ArrayList<>(batchSize);
+        TaskLifecycleEvent event;
+        while ((event = queue.poll()) != null) {
+            size.decrementAndGet();
+            batch.add(event);
+            if (batch.size() == batchSize) {
+                dispatch(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+    
+    private void dispatch(List<TaskLifecycleEvent> batch) {
+        for (TaskEventSink sink : sinks) {
+            try {
+                sink.accept(batch);
+            } catch (RuntimeException e) {
+                // One broken sink must not stop the others (or the drain thread)
+                log.warn("Task event sink {} failed", sink.getClass().getSimpleName(), e);
+            }
+        }
+    }
+    
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("published", published.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("sampledOut", sampledOut.sum());
+        stats.put("queued", size.get());
+        stats.put("capacity", capacity);
+        return stats;
+    }
+}
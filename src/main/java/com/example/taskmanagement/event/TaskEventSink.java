@@ -0,0 +1,11 @@
+package com.example.taskmanagement.event;
+
+
+import java.util.List;
+
+// Consumer side of the lifecycle pipeline. Sinks are called from the single
+// background drain thread, one batch at a time, never from a request thread.
+public interface TaskEventSink {
+    
+    void accept(List<TaskLifecycleEvent> batch);
+}
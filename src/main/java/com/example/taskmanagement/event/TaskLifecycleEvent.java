@@ -0,0 +1,40 @@
+package com.example.taskmanagement.event;
+
+
+// Lightweight record of a Task lifecycle callback.
+// Only ids and counters are captured so publishing stays cheap.
+public class TaskLifecycleEvent {
+    
+    public enum Type {
+        CREATED, UPDATED, DELETED, LOADED
+    }
+    
+    private final Type type;
+    private final Long taskId;
+    private final Long version;
+    private final long timestamp; // epoch millis
+    
+    public TaskLifecycleEvent(Type type, Long taskId, Long version, long timestamp) {
+        this.type = type;
+        this.taskId = taskId;
+        this.version = version;
+        this.timestamp = timestamp;
+    }
+    
+    // Getters
+    public Type getType() {
+        return type;
+    }
+    
+    public Long getTaskId() {
+        return taskId;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.taskmanagement.event;
+
+
+import com.example.taskmanagement.audit.AuditJournal;
+import com.example.taskmanagement.counter.TaskCounterStore;
+import com.example.taskmanagement.entity.Tag;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskSnapshot;
+import com.example.taskmanagement.entity.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// JPA entity listener for Task. Hibernate obtains it through Spring's bean
+// container, so the pipeline is injected; each callback is a single
+// non-blocking publish (or nothing at all when the pipeline is disabled).
+// Writes are also handed to the TaskWriteDispatcher, which keeps the
+// in-memory indexes in sync after commit, to the TaskCounterStore and to
+// the AuditJournal.
+public class TaskLifecycleListener {
+    
+    @Autowired
+    private TaskEventPipeline pipeline;
+    
+    // Lazy: this listener is created while the EntityManagerFactory is still
+    // being built, and the dispatcher's listeners may need JPA themselves
+    @Autowired
+    @Lazy
+    private TaskWriteDispatcher writeDispatcher;
+    
+    @Autowired
+    @Lazy
+    private TaskCounterStore counterStore;
+    
+    @Autowired
+    @Lazy
+    private AuditJournal auditJournal;
+    
+    @Autowired
+    @Lazy
+    private EntityManager entityManager;
+    
+    // Only tasks that are really being updated or deleted pay for a before
+    // image; plain loads do no work here
+    @PreUpdate
+    void beforeUpdate(Task task) {
+        task.setLoadedState(loadedState(task));
+    }
+    
+    @PreRemove
+    void beforeDelete(Task task) {
+        task.setLoadedState(loadedState(task));
+    }
+    
+    @PostPersist
+    void afterCreate(Task task) {
+        publish(TaskLifecycleEvent.Type.CREATED, task);
+        if (writeDispatcher != null) {
+            writeDispatcher.written(task);
+        }
+        if (counterStore != null) {
+            counterStore.created(task);
+        }
+        if (auditJournal != null) {
+            auditJournal.created(task);
+        }
+    }
+    
+    @PostUpdate
+    void afterUpdate(Task task) {
+        publish(TaskLifecycleEvent.Type.UPDATED, task);
+        if (writeDispatcher != null) {
+            writeDispatcher.written(task);
+        }
+        if (counterStore != null) {
+            counterStore.updated(task);
+        }
+        if (auditJournal != null) {
+            auditJournal.updated(task);
+        }
+        task.setLoadedState(null);
+    }
+    
+    @PostRemove
+    void afterDelete(Task task) {
+        publish(TaskLifecycleEvent.Type.DELETED, task);
+        if (writeDispatcher != null) {
+            writeDispatcher.deleted(task.getId());
+        }
+        if (counterStore != null) {
+            counterStore.removed(task);
+        }
+        if (auditJournal != null) {
+            auditJournal.removed(task);
+        }
+        task.setLoadedState(null);
+    }
+    
+    @PostLoad
+    void afterLoad(Task task) {
+        publish(TaskLifecycleEvent.Type.LOADED, task);
+    }
+    
+    // The row as of the last load or flush, from the persistence context's
+    // loaded state (the entity itself already holds the new values). Tags come
+    // from the collection's snapshot, when it was initialized.
+    private TaskSnapshot loadedState(Task task) {
+        EntityEntry entry = entityManager.unwrap(SharedSessionContractImplementor.class)
+                .getPersistenceContextInternal().getEntry(task);
+        if (entry == null || entry.getLoadedState() == null) {
+            return TaskSnapshot.of(task);
+        }
+        User user = (User) entry.getLoadedValue("user");
+        Set<String> tagNames = null;
+        if (entry.getLoadedValue("tags") instanceof PersistentCollection<?> tags
+                && tags.wasInitialized() && tags.getStoredSnapshot() instanceof Map<?, ?> stored) {
+            tagNames = new HashSet<>();
+            for (Object tag : stored.keySet()) {
+                tagNames.add(((Tag) tag).getName());
+            }
+        }
+        return new TaskSnapshot(task.getId(), (String) entry.getLoadedValue("title"),
+                (String) entry.getLoadedValue("description"), (TaskStatus) entry.getLoadedValue("status"),
+                (TaskPriority) entry.getLoadedValue("priority"), user != null ? user.getId() : null,
+                (Long) entry.getVersion(), (LocalDateTime) entry.getLoadedValue("createdAt"),
+                (LocalDateTime) entry.getLoadedValue("updatedAt"), tagNames);
+    }
+    
+    private void publish(TaskLifecycleEvent.Type type, Task task) {
+        if (pipeline != null && pipeline.isEnabled()) {
+            pipeline.publish(type, task.getId(), task.getVersion());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.taskmanagement.event;
+
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Fans Task writes out to every TaskWriteListener, but only once the
+// surrounding transaction has committed. Writes are buffered per transaction
+// (the last write of a task wins) and dropped on rollback.
+//
+// afterCommit runs on each committing thread in whatever order the threads
+// get there, so version 2 of a task can come after version 3 (or after its
+// delete). Per task the fan-out is therefore serialized (lock striping by
+// id) and a write older than the last one dispatched for that task, or for
+// a task already deleted, is dropped: every listener sees each task's
+// versions in increasing order. Only recent tasks are remembered per
+// stripe; a commit is never late by more than a few concurrent ones.
+@Component
+public class TaskWriteDispatcher {
+    
+    private static final Logger log = LoggerFactory.getLogger(TaskWriteDispatcher.class);
+    
+    private static final int STRIPES = 64;
+    private static final int RECENT_PER_STRIPE = 1024;
+    private static final long DELETED = Long.MAX_VALUE;
+    
+    @Autowired
+    private List<TaskWriteListener> listeners;
+    
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final LongAdder staleWrites = new LongAdder();
+    
+    {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+    
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        
+        // taskId -> last dispatched version (DELETED after a delete), LRU-bounded
+        final Map<Long, Long> recent = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > RECENT_PER_STRIPE;
+            }
+        };
+    }
+    
+    // Called from JPA callbacks (TaskLifecycleListener)
+    public void written(Task task) {
+        written(TaskSnapshot.of(task));
+    }
+    
+    public void written(TaskSnapshot snapshot) {
+        PendingWrites pending = currentPendingWrites();
+        if (pending == null) {
+            fireWritten(snapshot);
+        } else {
+            pending.put(snapshot.getId(), snapshot);
+        }
+    }
+    
+    public void deleted(Long taskId) {
+        PendingWrites pending = currentPendingWrites();
+        if (pending == null) {
+            fireDeleted(taskId);
+        } else {
+            pending.put(taskId, null);
+        }
+    }
+    
+    // Bulk paths (set-based DELETEs) report the affected ids explicitly
+    public void deleted(Collection<Long> taskIds) {
+        taskIds.forEach(this::deleted);
+    }
+    
+    public List<TaskWriteListener> getListeners() {
+        return listeners;
+    }
+    
+    // Writes dropped because a newer version (or the delete) was already dispatched
+    public long getStaleWrites() {
+        return staleWrites.sum();
+    }
+    
+    private void fireWritten(TaskSnapshot snapshot) {
+        Stripe stripe = stripeOf(snapshot.getId());
+        stripe.lock.lock();
+        try {
+            Long last = stripe.recent.get(snapshot.getId());
+            Long version = snapshot.getVersion();
+            if (last != null && (last == DELETED || (version != null && version < last))) {
+                staleWrites.increment();
+                log.debug("Dropped stale write of task {} (version {}, already dispatched {})",
+                        snapshot.getId(), version, last == DELETED ? "delete" : last);
+                return;
+            }
+            if (version != null) {
+                stripe.recent.put(snapshot.getId(), version);
+            }
+            for (TaskWriteListener listener : listeners) {
+                try {
+                    listener.onTaskWritten(snapshot);
+                } catch (RuntimeException e) {
+                    log.warn("{} failed to apply write of task {}", listener.getClass().getSimpleName(), snapshot.getId(), e);
+                }
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+    
+    private void fireDeleted(Long taskId) {
+        Stripe stripe = stripeOf(taskId);
+        stripe.lock.lock();
+        try {
+            stripe.recent.put(taskId, DELETED);
+            for (TaskWriteListener listener : listeners) {
+                try {
+                    listener.onTaskDeleted(taskId);
+                } catch (RuntimeException e) {
+                    log.warn("{} failed to apply delete of task {}", listener.getClass().getSimpleName(), taskId, e);
+                }
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+    
+    private Stripe stripeOf(Long taskId) {
+        return stripes[Math.floorMod(Long.hashCode(taskId), STRIPES)];
+    }
+    
+    // Returns the buffer registered with the current transaction (creating it
+    // on first use), or null when there is no transaction and writes apply
+    // immediately. The buffer is found among the transaction's own
+    // synchronizations rather than bound as a resource: REQUIRES_NEW suspends
+    // the synchronizations of the outer transaction but not custom resources,
+    // so a bound buffer would leak inner writes into the outer commit.
+    private PendingWrites currentPendingWrites() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingWrites pending) {
+                return pending;
+            }
+        }
+        PendingWrites pending = new PendingWrites();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+    
+    private class PendingWrites implements TransactionSynchronization {
+        
+        // taskId -> latest snapshot, or null for a delete
+        private final Map<Long, TaskSnapshot> writes = new LinkedHashMap<>();
+        
+        void put(Long taskId, TaskSnapshot snapshot) {
+            writes.remove(taskId); // keep commit order = order of the last write
+            writes.put(taskId, snapshot);
+        }
+        
+        @Override
+        public void afterCommit() {
+            writes.forEach((taskId, snapshot) -> {
+                if (snapshot == null) {
+                    fireDeleted(taskId);
+                } else {
+                    fireWritten(snapshot);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanagement.event;
+
+
+import com.example.taskmanagement.entity.TaskSnapshot;
+
+// Receives committed Task writes, in commit order, on the committing thread.
+// Implemented by the in-memory indexes that have to stay in sync with the
+// tasks table. Implementations must be thread-safe and must not touch the DB.
+public interface TaskWriteListener {
+    
+    void onTaskWritten(TaskSnapshot snapshot);
+    
+    void onTaskDeleted(Long taskId);
+    
+    // A full replay from the database (startup, or after a bulk load) brackets
+    // its onTaskWritten calls with these two
+    default void onReplayStarted() {
+    }
+    
+    default void onReplayFinished() {
+    }
+}
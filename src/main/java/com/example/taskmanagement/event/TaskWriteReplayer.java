@@ -0,0 +1,91 @@
+package com.example.taskmanagement.event;
+
+
+import com.example.taskmanagement.counter.TaskCounterStore;
+import com.example.taskmanagement.entity.TaskSnapshot;
+import com.example.taskmanagement.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// Rebuilds every TaskWriteListener (and the TaskCounterStore) from the
+// database: once at startup, and on demand after writes that bypass the
+// dispatcher (e.g. bulk JDBC loads).
+@Component
+public class TaskWriteReplayer {
+    
+    private static final Logger log = LoggerFactory.getLogger(TaskWriteReplayer.class);
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    @Autowired
+    private TaskWriteDispatcher dispatcher;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private TaskCounterStore counterStore;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        replayAll();
+    }
+    
+    public synchronized void replayAll() {
+        List<TaskWriteListener> listeners = dispatcher.getListeners();
+        long start = System.currentTimeMillis();
+        listeners.forEach(TaskWriteListener::onReplayStarted);
+        
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        long replayed = readOnly.execute(status -> replay(listeners));
+        
+        listeners.forEach(TaskWriteListener::onReplayFinished);
+        log.info("Replayed {} tasks into {} listeners in {} ms",
+                replayed, listeners.size(), System.currentTimeMillis() - start);
+        
+        // Counters are aggregates, so they are recomputed with one GROUP BY
+        counterStore.rebuild();
+    }
+    
+    // Merge join of two id-ordered cursors (tasks, and task -> tag name links)
+    // so tags are attached without holding the whole link table in memory
+    private long replay(List<TaskWriteListener> listeners) {
+        long count = 0;
+        try (Stream<TaskSnapshot> snapshots = taskRepository.streamSnapshots();
+             Stream<Object[]> links = taskRepository.streamTagLinks()) {
+            Iterator<Object[]> linkIterator = links.iterator();
+            Object[] link = linkIterator.hasNext() ? linkIterator.next() : null;
+            
+            Iterator<TaskSnapshot> snapshotIterator = snapshots.iterator();
+            while (snapshotIterator.hasNext()) {
+                TaskSnapshot snapshot = snapshotIterator.next();
+                Set<String> tagNames = new HashSet<>();
+                while (link != null && (Long) link[0] <= snapshot.getId()) {
+                    if (link[0].equals(snapshot.getId())) {
+                        tagNames.add((String) link[1]);
+                    }
+                    link = linkIterator.hasNext() ? linkIterator.next() : null;
+                }
+                TaskSnapshot withTags = snapshot.withTagNames(tagNames);
+                for (TaskWriteListener listener : listeners) {
+                    listener.onTaskWritten(withTags);
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.taskmanagement.ingest;
+
+
+import com.example.taskmanagement.entity.IngestTicketDTO;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TaskService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Write-behind ingestion: submit() validates a task, puts it on a bounded
+// queue and returns a ticket right away; a single flusher thread writes
+// queued tasks in batches, one transaction per batch (grouped by user and
+// persisted through createTasksInBulk).
+//
+// A batch is flushed when it reaches batch-size or max-delay-ms after its
+// first task was taken, whichever comes first. When the queue is full,
+// submit() refuses (the caller answers 429) instead of blocking. If a batch
+// transaction fails, its tasks are retried one transaction each so a bad
+// task only fails its own ticket.
+//
+// Tickets are in memory only: tasks still queued at a crash are lost, and
+// finished tickets are forgotten once more than ticket-retention pile up.
+@Component
+public class TaskIngestQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskIngestQueue.class);
+
+    @Value("${app.ingest.queue-capacity:10000}")
+    private int capacity;
+
+    @Value("${app.ingest.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.ingest.max-delay-ms:50}")
+    private long maxDelayMs;
+
+    @Value("${app.ingest.ticket-retention:100000}")
+    private int ticketRetention;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BlockingQueue<Pending> queue;
+    private final Map<Long, IngestTicketDTO> tickets = new ConcurrentHashMap<>();
+    private final ArrayDeque<Long> finished = new ArrayDeque<>(); // flusher thread only
+    private final AtomicLong nextTicket = new AtomicLong();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedTasks = new LongAdder();
+    private final LongAdder fallbackBatches = new LongAdder();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    private record Pending(long ticket, Long userId, Task task) {}
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        running = true;
+        flusher = new Thread(this::run, "task-ingest");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        // The flusher empties the queue, then notices within one idle poll
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("{} queued tasks were not written before shutdown", queue.size());
+        }
+    }
+
+    // Never blocks: empty when the queue is full
+    public Optional<IngestTicketDTO> submit(Long userId, Task task) {
+        if (userId == null) {
+            throw new IllegalArgumentException("userId is required");
+        }
+        if (task == null || task.getTitle() == null || task.getTitle().isBlank()) {
+            throw new IllegalArgumentException("Task title is required");
+        }
+        if (task.getTitle().length() > 100) {
+            throw new IllegalArgumentException("Task title is longer than 100 characters");
+        }
+        if (task.getDescription() != null && task.getDescription().length() > 500) {
+            throw new IllegalArgumentException("Task description is longer than 500 characters");
+        }
+        task.setId(null);
+
+        long ticket = nextTicket.incrementAndGet();
+        IngestTicketDTO queued = new IngestTicketDTO(ticket, IngestTicketDTO.Status.QUEUED,
+                null, null, LocalDateTime.now(), null);
+        // Registered first so the flusher can never finish an unknown ticket
+        tickets.put(ticket, queued);
+        if (!running || !queue.offer(new Pending(ticket, userId, task))) {
+            tickets.remove(ticket);
+            rejected.increment();
+            return Optional.empty();
+        }
+        accepted.increment();
+        return Optional.of(queued);
+    }
+
+    public Optional<IngestTicketDTO> getTicket(long ticket) {
+        return Optional.ofNullable(tickets.get(ticket));
+    }
+
+    // ========================================
+    // FLUSHER (runs on the task-ingest thread only)
+    // ========================================
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                fill(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!batch.isEmpty()) {
+                try {
+                    flush(batch);
+                } catch (RuntimeException e) {
+                    log.error("Ingest batch of {} tasks failed", batch.size(), e);
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    // Waits for a first task, then gathers more until the batch is full or
+    // max-delay-ms has passed since the first one
+    private void fill(List<Pending> batch) throws InterruptedException {
+        Pending first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        // Unknown users fail their tickets up front instead of the whole batch
+        Set<Long> userIds = new HashSet<>();
+        for (Pending pending : batch) {
+            userIds.add(pending.userId());
+        }
+        Set<Long> knownUsers = new HashSet<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            knownUsers.add(user.getId());
+        }
+
+        Map<Long, List<Pending>> byUser = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            if (knownUsers.contains(pending.userId())) {
+                byUser.computeIfAbsent(pending.userId(), id -> new ArrayList<>()).add(pending);
+            } else {
+                fail(pending, "User not found");
+            }
+        }
+        if (byUser.isEmpty()) {
+            return;
+        }
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        try {
+            tx.executeWithoutResult(status -> byUser.forEach((userId, tasks) ->
+                    taskService.createTasksInBulk(userId, tasks.stream().map(Pending::task).toList())));
+            batches.increment();
+            byUser.values().forEach(tasks -> batchedTasks.add(tasks.size()));
+            byUser.values().forEach(tasks -> tasks.forEach(this::complete));
+        } catch (RuntimeException e) {
+            log.warn("Ingest batch failed ({}), retrying its tasks one by one", e.getMessage());
+            fallbackBatches.increment();
+            byUser.values().forEach(tasks -> tasks.forEach(this::writeAlone));
+        }
+    }
+
+    private void writeAlone(Pending pending) {
+        // The rolled-back attempt already assigned an id
+        pending.task().setId(null);
+        try {
+            taskService.createTasksInBulk(pending.userId(), List.of(pending.task()));
+            complete(pending);
+        } catch (RuntimeException e) {
+            fail(pending, e.getMessage());
+        }
+    }
+
+    private void complete(Pending pending) {
+        created.increment();
+        finish(pending, IngestTicketDTO.Status.CREATED, pending.task().getId(), null);
+    }
+
+    private void fail(Pending pending, String error) {
+        failed.increment();
+        finish(pending, IngestTicketDTO.Status.FAILED, null, error);
+    }
+
+    private void finish(Pending pending, IngestTicketDTO.Status status, Long taskId, String error) {
+        IngestTicketDTO queued = tickets.get(pending.ticket());
+        tickets.put(pending.ticket(), new IngestTicketDTO(pending.ticket(), status, taskId, error,
+                queued != null ? queued.getSubmittedAt() : null, LocalDateTime.now()));
+        finished.add(pending.ticket());
+        // Oldest finished tickets go first; queued ones are never evicted
+        while (finished.size() > ticketRetention) {
+            Long oldest = finished.poll();
+            if (oldest != null) {
+                tickets.remove(oldest);
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long batchCount = batches.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queued", queue.size());
+        stats.put("capacity", capacity);
+        stats.put("accepted", accepted.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("created", created.sum());
+        stats.put("failed", failed.sum());
+        stats.put("batches", batchCount);
+        stats.put("fallbackBatches", fallbackBatches.sum());
+        stats.put("avgBatchSize", batchCount == 0 ? 0.0 : (double) batchedTasks.sum() / batchCount);
+        stats.put("trackedTickets", tickets.size());
+        return stats;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.taskmanagement.jdbc;
+
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// Admission control in front of the connection pool: at most maxConcurrent
+// connections are handed out at once, and a caller waits for a permit (FIFO,
+// bounded by timeoutMillis) before it reaches the pool at all.
+//
+// With virtual threads every request gets its own thread, so thousands can
+// ask for a connection at the same moment. The semaphore keeps them parked
+// in one fair queue and fails fast after the timeout, instead of all of them
+// contending inside the pool until its connectionTimeout. The permit is
+// released when the connection is closed (returned to the pool).
+public class AdmissionControlDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long timeoutMillis;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    public AdmissionControlDataSource(DataSource target, int maxConcurrent, long timeoutMillis) {
+        super(target);
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be at least 1");
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return admitted(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return admitted(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            admitted.increment();
+            return;
+        }
+        waited.increment();
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new SQLTransientConnectionException("No JDBC admission permit within " + timeoutMillis
+                        + " ms (" + maxConcurrent + " connections in use, " + permits.getQueueLength() + " waiting)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a JDBC admission permit", e);
+        } finally {
+            waitNanos.add(System.nanoTime() - start);
+        }
+        admitted.increment();
+    }
+
+    // Releases the permit on the first close(); everything else goes to the pooled connection
+    private Connection admitted(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "Admitted[" + connection + "]";
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+
+    // Permits in use and queued right now, plus totals since startup
+    public Map<String, Object> getStats() {
+        long waits = waited.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxConcurrent", maxConcurrent);
+        stats.put("inUse", maxConcurrent - permits.availablePermits());
+        stats.put("waiting", permits.getQueueLength());
+        stats.put("admitted", admitted.sum());
+        stats.put("waited", waits);
+        stats.put("rejected", rejected.sum());
+        stats.put("avgWaitMillis", waits == 0 ? 0.0 : waitNanos.sum() / 1_000_000.0 / waits);
+        stats.put("timeoutMillis", timeoutMillis);
+        return stats;
+    }
+}
@@ -4,13 +4,21 @@ package com.example.taskmanagement.repository;
 import com.example.taskmanagement.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import java.util.Optional;
 import java.util.List;
 
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Long> {
+    // Query cache: name -> id, the Tag itself comes from the "tags" entity region
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "tag-queries")
+    })
     Optional<Tag> findByName(String name);
     boolean existsByName(String name);
     
@@ -2,7 +2,9 @@ package com.example.taskmanagement.repository;
 
 
 import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskStatus;
 import com.example.taskmanagement.entity.TaskSummaryDTO;
+import com.example.taskmanagement.entity.TaskSnapshot;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,17 +12,23 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long>, 
-                                        JpaSpecificationExecutor<Task> {
+                                        JpaSpecificationExecutor<Task>,
+                                        TaskSearchRepository {
     
     // ========================================
     // 1. QUERY METHODS (Derived Queries)
@@ -28,13 +36,13 @@ public interface TaskRepository extends JpaRepository<Task, Long>,
     // JPA creates the query automatically from the method name!
     
     // Find by single field
-    List<Task> findByStatus(String status);
+    List<Task> findByStatus(TaskStatus status);
     
     // Find by multiple fields (AND)
-    List<Task> findByStatusAndUserId(String status, Long userId);
+    List<Task> findByStatusAndUserId(TaskStatus status, Long userId);
     
     // Find with OR condition
-    List<Task> findByStatusOrTitle(String status, String title);
+    List<Task> findByStatusOrTitle(TaskStatus status, String title);
     
     // Find with LIKE (contains)
     List<Task> findByTitleContaining(String keyword);
@@ -58,15 +66,15 @@ public interface TaskRepository extends JpaRepository<Task, Long>,
     List<Task> findByDescriptionIsNotNull();
     
     // Find with ordering
-    List<Task> findByStatusOrderByCreatedAtDesc(String status);
+    List<Task> findByStatusOrderByCreatedAtDesc(TaskStatus status);
     List<Task> findByUserIdOrderByTitleAsc(Long userId);
     
     // Find first/top N results
     Task findFirstByUserIdOrderByCreatedAtDesc(Long userId);
-    List<Task> findTop5ByStatusOrderByCreatedAtDesc(String status);
+    List<Task> findTop5ByStatusOrderByCreatedAtDesc(TaskStatus status);
     
     // Count queries
-    long countByStatus(String status);
+    long countByStatus(TaskStatus status);
     long countByUserId(Long userId);
     
     // Exists queries
@@ -74,7 +82,7 @@ public interface TaskRepository extends JpaRepository<Task, Long>,
     
     // Delete queries
     @Transactional
-    void deleteByStatus(String status);
+    void deleteByStatus(TaskStatus status);
     
     // ========================================
     // 2. JPQL QUERIES (@Query)
@@ -84,12 +92,12 @@ public interface TaskRepository extends JpaRepository<Task, Long>,
     
     // Basic JPQL query
     @Query("SELECT t FROM Task t WHERE t.status = :status")
-    List<Task> findTasksByStatus(@Param("status") String status);
+    List<Task> findTasksByStatus(@Param("status") TaskStatus status);
     
     // JPQL with multiple parameters
     @Query("SELECT t FROM Task t WHERE t.status = :status AND t.user.id = :userId")
     List<Task> findTasksByStatusAndUser(
-        @Param("status") String status,
+        @Param("status") TaskStatus status,
         @Param("userId") Long userId
     );
     
@@ -107,7 +115,7 @@ public interface TaskRepository extends JpaRepository<Task, Long>,
            "AND t.status = :status")
     List<Task> searchTasksByKeywordAndStatus(
         @Param("keyword") String keyword,
-        @Param("status") String status
+        @Param("status") TaskStatus status
     );
     
     // JPQL with date range
@@ -119,14 +127,14 @@ public interface TaskRepository extends JpaRepository<Task, Long>,
     
     // JPQL with aggregation functions
     @Query("SELECT COUNT(t) FROM Task t WHERE t.status = :status")
-    long countTasksByStatus(@Param("status") String status);
+    long countTasksByStatus(@Param("status") TaskStatus status);
     
     @Query("SELECT t.status, COUNT(t) FROM Task t GROUP BY t.status")
     List<Object[]> countTasksGroupedByStatus();
     
     // JPQL with DISTINCT
     @Query("SELECT DISTINCT t.status FROM Task t")
-    List<String> findAllDistinctStatuses();
+    List<TaskStatus> findAllDistinctStatuses();
     
     // JPQL returning specific fields (DTO projection)
     @Query("SELECT t.id, t.title, t.status FROM Task t WHERE t.user.id = :userId")
@@ -137,9 +145,11 @@ public interface TaskRepository extends JpaRepository<Task, Long>,
     // ========================================
     // Raw SQL queries (use table and column names!)
     // Use when JPQL is not enough or for complex DB-specific operations
+    // status/priority columns hold SMALLINT codes; converters don't apply to
+    // native SQL, so bind the code explicitly with SpEL
     
-    @Query(value = "SELECT * FROM tasks WHERE status = :status", nativeQuery = true)
-    List<Task> findTasksByStatusNative(@Param("status") String status);
+    @Query(value = "SELECT * FROM tasks WHERE status = :#{#status.code}", nativeQuery = true)
+    List<Task> findTasksByStatusNative(@Param("status") TaskStatus status);
     
     @Query(value = "SELECT * FROM tasks WHERE user_id = :userId AND " +
                    "created_at > DATE_SUB(NOW(), INTERVAL 7 DAY)", 
@@ -147,40 +157,83 @@ public interface TaskRepository extends JpaRepository<Task, Long>,
     List<Task> findRecentTasksByUser(@Param("userId") Long userId);
     
     // Native query with pagination
-    @Query(value = "SELECT * FROM tasks WHERE status = :status ORDER BY created_at DESC",
-           countQuery = "SELECT count(*) FROM tasks WHERE status = :status",
+    @Query(value = "SELECT * FROM tasks WHERE status = :#{#status.code} ORDER BY created_at DESC",
+           countQuery = "SELECT count(*) FROM tasks WHERE status = :#{#status.code}",
            nativeQuery = true)
-    Page<Task> findTasksByStatusNativeWithPagination(@Param("status") String status, Pageable pageable);
+    Page<Task> findTasksByStatusNativeWithPagination(@Param("status") TaskStatus status, Pageable pageable);
     
     // ========================================
     // 4. UPDATE/DELETE QUERIES
     // ========================================
     // These modify data, so need @Modifying and @Transactional
     
+    // Set-based updates bypass @Version and auditing, so both are set here
     @Modifying
     @Transactional
-    @Query("UPDATE Task t SET t.status = :newStatus WHERE t.status = :oldStatus")
+    @Query("UPDATE Task t SET t.status = :newStatus, t.version = t.version + 1, " +
+           "t.updatedAt = :updatedAt, t.updatedBy = :updatedBy WHERE t.status = :oldStatus AND t.id IN :taskIds")
     int bulkUpdateStatus(
-        @Param("oldStatus") String oldStatus,
-        @Param("newStatus") String newStatus
+        @Param("oldStatus") TaskStatus oldStatus,
+        @Param("newStatus") TaskStatus newStatus,
+        @Param("updatedAt") LocalDateTime updatedAt,
+        @Param("updatedBy") String updatedBy,
+        @Param("taskIds") Collection<Long> taskIds
     );
     
     @Modifying
     @Transactional
-    @Query("UPDATE Task t SET t.status = :status WHERE t.id = :taskId")
-    int updateTaskStatus(@Param("taskId") Long taskId, @Param("status") String status);
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1, " +
+           "t.updatedAt = :updatedAt, t.updatedBy = :updatedBy WHERE t.id = :taskId")
+    int updateTaskStatus(
+        @Param("taskId") Long taskId,
+        @Param("status") TaskStatus status,
+        @Param("updatedAt") LocalDateTime updatedAt,
+        @Param("updatedBy") String updatedBy
+    );
     
-    @Modifying
+    // Row locks for the set-based paths: (id, user_id, status, priority) of
+    // the rows a statement is about to change, taken with FOR UPDATE so
+    // nothing else can move them before the statement runs. Codes, not
+    // enums: these are native queries.
+    @Query(value = "SELECT id, user_id, status, priority FROM tasks WHERE id IN (:taskIds) " +
+                   "ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockCounterRowsByIdIn(@Param("taskIds") Collection<Long> taskIds);
+    
+    // Keyset chunks: the next `limit` rows in the status after afterId
+    @Query(value = "SELECT id, user_id, status, priority FROM tasks WHERE status = :status AND id > :afterId " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockCounterRowsByStatus(
+        @Param("status") short status,
+        @Param("afterId") long afterId,
+        @Param("limit") int limit
+    );
+    
+    // (id, userId, status, priority, version) of the rows a batch transition targets
+    @Query("SELECT t.id, t.user.id, t.status, t.priority, t.version FROM Task t WHERE t.id IN :taskIds")
+    List<Object[]> findTransitionStatesByIdIn(@Param("taskIds") Collection<Long> taskIds);
+    
+    @Query("SELECT t.id FROM Task t WHERE t.status = :status AND t.createdAt < :date")
+    List<Long> findIdsByStatusCreatedBefore(@Param("status") TaskStatus status, @Param("date") LocalDateTime date);
+    
+    // Set-based batch delete: join table rows first, then the tasks.
+    // Nothing is loaded into the persistence context and no lifecycle
+    // callbacks run.
+    @Modifying(flushAutomatically = true)
     @Transactional
-    @Query("DELETE FROM Task t WHERE t.status = :status AND t.createdAt < :date")
-    int deleteOldTasksByStatus(@Param("status") String status, @Param("date") LocalDateTime date);
+    @Query(value = "DELETE FROM task_tags WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int deleteTagLinksByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+    
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("DELETE FROM Task t WHERE t.id IN :taskIds")
+    int deleteByIdIn(@Param("taskIds") Collection<Long> taskIds);
     
     // ========================================
     // 5. PAGINATION AND SORTING
     // ========================================
     // Using Pageable parameter
     
-    Page<Task> findByStatus(String status, Pageable pageable);
+    Page<Task> findByStatus(TaskStatus status, Pageable pageable);
     Page<Task> findByUserId(Long userId, Pageable pageable);
     
     @Query("SELECT t FROM Task t WHERE t.title LIKE %:keyword%")
@@ -194,8 +247,48 @@ public interface TaskRepository extends JpaRepository<Task, Long>,
     List<Task> findByUserId(Long userId);
 
 
+    // ETag validator: the version alone (no hydration)
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
     // Query with optimistic lock
     @Query("SELECT t FROM Task t WHERE t.id = :id")
     Optional<Task> findByIdWithLock(@Param("id") Long id);
+
+    // ========================================
+    // 6. STREAMING
+    // ========================================
+    // Forward-only cursor: rows are fetched in chunks of the fetch size
+    // while the stream is consumed. Must be used inside a transaction
+    // and closed (try-with-resources) when done.
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.id")
+    Stream<Task> streamAll();
+    
+    // Initializes the tags of a chunk of streamed tasks in one query
+    @Query("SELECT DISTINCT t FROM Task t LEFT JOIN FETCH t.tags WHERE t.id IN :taskIds")
+    List<Task> fetchTagsByIdIn(@Param("taskIds") Collection<Long> taskIds);
+    
+    // Index rebuilds: plain column projections, no entity hydration
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.example.taskmanagement.entity.TaskSnapshot(" +
+           "t.id, t.title, t.description, t.status, t.priority, t.user.id, t.version, t.createdAt, t.updatedAt) " +
+           "FROM Task t ORDER BY t.id")
+    Stream<TaskSnapshot> streamSnapshots();
+    
+    // Fresh snapshots after a set-based UPDATE (tags unknown, indexes keep theirs)
+    @Query("SELECT new com.example.taskmanagement.entity.TaskSnapshot(" +
+           "t.id, t.title, t.description, t.status, t.priority, t.user.id, t.version, t.createdAt, t.updatedAt) " +
+           "FROM Task t WHERE t.id IN :taskIds")
+    List<TaskSnapshot> findSnapshotsByIdIn(@Param("taskIds") Collection<Long> taskIds);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.id, tag.name FROM Task t JOIN t.tags tag ORDER BY t.id")
+    Stream<Object[]> streamTagLinks();
     
 }
\ No newline at end of file
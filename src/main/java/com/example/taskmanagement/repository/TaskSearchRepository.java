@@ -0,0 +1,28 @@
+package com.example.taskmanagement.repository;
+
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskField;
+import com.example.taskmanagement.entity.TaskSummaryDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.List;
+import java.util.Map;
+
+// Custom fragment of TaskRepository for Specification-driven projections
+// (implemented in TaskSearchRepositoryImpl)
+public interface TaskSearchRepository {
+    
+    // Flat summaries with tag names for every task matching the spec.
+    // Always two queries: one for the rows, one for all of their tag names.
+    List<TaskSummaryDTO> findSummaries(Specification<Task> spec, Sort sort);
+    
+    // Sparse fieldsets: only the requested columns are selected, one map per
+    // task (field name -> value, in the requested order). Tag names, if asked
+    // for, cost one more query; otherwise no association is touched.
+    List<Map<String, Object>> findFields(Specification<Task> spec, List<TaskField> fields, Sort sort);
+    
+    Page<Map<String, Object>> findFields(Specification<Task> spec, List<TaskField> fields, Pageable pageable);
+}
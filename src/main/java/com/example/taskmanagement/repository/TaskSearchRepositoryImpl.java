@@ -0,0 +1,189 @@
+package com.example.taskmanagement.repository;
+
+
+import com.example.taskmanagement.entity.Tag;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskField;
+import com.example.taskmanagement.entity.TaskSummaryDTO;
+import com.example.taskmanagement.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TaskSearchRepositoryImpl implements TaskSearchRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<TaskSummaryDTO> findSummaries(Specification<Task> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        
+        // 1. Scalar columns only: no entities, no @PostLoad, no lazy tags
+        CriteriaQuery<TaskSummaryDTO> rowQuery = cb.createQuery(TaskSummaryDTO.class);
+        Root<Task> task = rowQuery.from(Task.class);
+        Join<Task, User> user = task.join("user");
+        rowQuery.select(cb.construct(TaskSummaryDTO.class,
+                task.get("id"), task.get("title"), task.get("status"), task.get("priority"),
+                user.get("username")));
+        Predicate rowFilter = spec.toPredicate(task, rowQuery, cb);
+        if (rowFilter != null) {
+            rowQuery.where(rowFilter);
+        }
+        if (sort.isSorted()) {
+            rowQuery.orderBy(QueryUtils.toOrders(sort, task, cb));
+        }
+        List<TaskSummaryDTO> summaries = entityManager.createQuery(rowQuery).getResultList();
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+        
+        // 2. (task id, tag name) pairs for the same filter, in one round trip.
+        // Re-applying the spec avoids shipping the ids back as an IN list.
+        CriteriaQuery<Tuple> tagQuery = cb.createTupleQuery();
+        Root<Task> tagged = tagQuery.from(Task.class);
+        Join<Task, Tag> tag = tagged.join("tags");
+        tagQuery.select(cb.tuple(tagged.get("id"), tag.get("name")));
+        Predicate tagFilter = spec.toPredicate(tagged, tagQuery, cb);
+        if (tagFilter != null) {
+            tagQuery.where(tagFilter);
+        }
+        
+        Map<Long, TaskSummaryDTO> byId = new HashMap<>(summaries.size() * 2);
+        summaries.forEach(summary -> byId.put(summary.getId(), summary));
+        for (Tuple row : entityManager.createQuery(tagQuery).getResultList()) {
+            TaskSummaryDTO summary = byId.get(row.get(0, Long.class));
+            if (summary != null) {
+                summary.getTagNames().add(row.get(1, String.class));
+            }
+        }
+        return summaries;
+    }
+    
+    @Override
+    public List<Map<String, Object>> findFields(Specification<Task> spec, List<TaskField> fields, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = fieldQuery(cb, spec, fields);
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, query.getRoots().iterator().next(), cb));
+        }
+        List<Map<String, Object>> rows = toRows(entityManager.createQuery(query).getResultList(), fields);
+        if (fields.contains(TaskField.TAG_NAMES) && !rows.isEmpty()) {
+            // Same filter again rather than shipping every id back as an IN list
+            CriteriaQuery<Tuple> tagQuery = cb.createTupleQuery();
+            Root<Task> tagged = tagQuery.from(Task.class);
+            Join<Task, Tag> tag = tagged.join("tags");
+            tagQuery.select(cb.tuple(tagged.get("id"), tag.get("name")));
+            Predicate tagFilter = spec.toPredicate(tagged, tagQuery, cb);
+            if (tagFilter != null) {
+                tagQuery.where(tagFilter);
+            }
+            attachTagNames(rows, entityManager.createQuery(tagQuery).getResultList());
+        }
+        return rows;
+    }
+    
+    @Override
+    public Page<Map<String, Object>> findFields(Specification<Task> spec, List<TaskField> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = fieldQuery(cb, spec, fields);
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), query.getRoots().iterator().next(), cb));
+        }
+        List<Map<String, Object>> rows = toRows(entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList(), fields);
+        if (fields.contains(TaskField.TAG_NAMES) && !rows.isEmpty()) {
+            // Only this page's tags: the ids are at most one page
+            List<Long> ids = rows.stream().map(row -> (Long) row.get(TaskField.ID.getFieldName())).toList();
+            attachTagNames(rows, entityManager.createQuery(
+                    "SELECT t.id, tg.name FROM Task t JOIN t.tags tg WHERE t.id IN :ids", Tuple.class)
+                    .setParameter("ids", ids)
+                    .getResultList());
+        }
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(cb, spec));
+    }
+    
+    private CriteriaQuery<Tuple> fieldQuery(CriteriaBuilder cb, Specification<Task> spec, List<TaskField> fields) {
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> task = query.from(Task.class);
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (TaskField field : fields) {
+            if (field.getPath() != null) {
+                selections.add(path(task, field.getPath()).alias(field.getFieldName()));
+            }
+        }
+        query.select(cb.tuple(selections));
+        Predicate filter = spec.toPredicate(task, query, cb);
+        if (filter != null) {
+            query.where(filter);
+        }
+        return query;
+    }
+    
+    private long count(CriteriaBuilder cb, Specification<Task> spec) {
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<Task> task = countQuery.from(Task.class);
+        countQuery.select(cb.count(task));
+        Predicate filter = spec.toPredicate(task, countQuery, cb);
+        if (filter != null) {
+            countQuery.where(filter);
+        }
+        return entityManager.createQuery(countQuery).getSingleResult();
+    }
+    
+    private static Path<?> path(Root<Task> task, String dotted) {
+        Path<?> path = task;
+        for (String attribute : dotted.split("\\.")) {
+            path = path.get(attribute);
+        }
+        return path;
+    }
+    
+    private static List<Map<String, Object>> toRows(List<Tuple> tuples, List<TaskField> fields) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (TaskField field : fields) {
+                row.put(field.getFieldName(), field == TaskField.TAG_NAMES ? new ArrayList<String>()
+                        : tuple.get(field.getFieldName()));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static void attachTagNames(List<Map<String, Object>> rows, Collection<Tuple> links) {
+        Map<Object, List<String>> byId = new HashMap<>(rows.size() * 2);
+        for (Map<String, Object> row : rows) {
+            byId.put(row.get(TaskField.ID.getFieldName()), (List<String>) row.get(TaskField.TAG_NAMES.getFieldName()));
+        }
+        for (Tuple link : links) {
+            List<String> tagNames = byId.get(link.get(0));
+            if (tagNames != null) {
+                tagNames.add(link.get(1, String.class));
+            }
+        }
+    }
+}
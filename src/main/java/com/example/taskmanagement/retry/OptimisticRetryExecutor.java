@@ -0,0 +1,132 @@
+package com.example.taskmanagement.retry;
+
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Runs an update with retries on optimistic-lock conflicts. Every attempt is
+// its own transaction (REQUIRES_NEW), so it reloads the current version and
+// its commit - where the version check actually fails - is inside the retry
+// loop. Between attempts no transaction or connection is held: the backoff
+// is exponential with full jitter, capped, and bounded by an overall deadline.
+//
+// Call it from outside a transaction; inside one, each attempt would commit
+// independently of the caller.
+@Component
+public class OptimisticRetryExecutor {
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${app.retry.max-attempts:5}")
+    private int defaultMaxAttempts;
+    
+    @Value("${app.retry.initial-backoff-ms:10}")
+    private long initialBackoffMs;
+    
+    @Value("${app.retry.max-backoff-ms:500}")
+    private long maxBackoffMs;
+    
+    @Value("${app.retry.deadline-ms:3000}")
+    private long deadlineMs;
+    
+    private TransactionTemplate attemptTemplate;
+    
+    private final Map<String, OperationStats> stats = new ConcurrentHashMap<>();
+    
+    private static class OperationStats {
+        final LongAdder calls = new LongAdder();
+        final LongAdder attempts = new LongAdder();
+        final LongAdder successes = new LongAdder();
+        final LongAdder conflicts = new LongAdder();
+        final LongAdder retries = new LongAdder();
+        final LongAdder exhausted = new LongAdder();
+        final LongAdder deadlineExceeded = new LongAdder();
+        final LongAdder backoffMillis = new LongAdder();
+    }
+    
+    @PostConstruct
+    void init() {
+        attemptTemplate = new TransactionTemplate(transactionManager);
+        attemptTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    public <T> T execute(String operation, Supplier<T> attempt) {
+        return execute(operation, defaultMaxAttempts, attempt);
+    }
+    
+    // Rethrows the last conflict once maxAttempts or the deadline is reached;
+    // any other exception ends the loop immediately
+    public <T> T execute(String operation, int maxAttempts, Supplier<T> attempt) {
+        OperationStats operationStats = stats.computeIfAbsent(operation, k -> new OperationStats());
+        operationStats.calls.increment();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            operationStats.attempts.increment();
+            try {
+                T result = attemptTemplate.execute(status -> attempt.get());
+                operationStats.successes.increment();
+                return result;
+            } catch (OptimisticLockingFailureException e) {
+                operationStats.conflicts.increment();
+                if (attemptNumber >= maxAttempts) {
+                    operationStats.exhausted.increment();
+                    throw e;
+                }
+                long backoff = backoffMillis(attemptNumber);
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoff) > deadline) {
+                    operationStats.deadlineExceeded.increment();
+                    throw e;
+                }
+                operationStats.retries.increment();
+                operationStats.backoffMillis.add(backoff);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+    
+    // Full jitter: uniform in [0, min(max, initial * 2^(n-1))]
+    private long backoffMillis(int attemptNumber) {
+        long cap = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attemptNumber - 1, 20));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+    
+    public Map<String, Map<String, Object>> getStats() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        stats.forEach((operation, s) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            long calls = s.calls.sum();
+            values.put("calls", calls);
+            values.put("attempts", s.attempts.sum());
+            values.put("successes", s.successes.sum());
+            values.put("conflicts", s.conflicts.sum());
+            values.put("retries", s.retries.sum());
+            values.put("exhausted", s.exhausted.sum());
+            values.put("deadlineExceeded", s.deadlineExceeded.sum());
+            values.put("backoffMillis", s.backoffMillis.sum());
+            values.put("conflictRate", calls == 0 ? 0.0 : (double) s.conflicts.sum() / s.attempts.sum());
+            result.put(operation, values);
+        });
+        return result;
+    }
+}
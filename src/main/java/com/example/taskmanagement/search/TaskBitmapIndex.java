@@ -0,0 +1,295 @@
+package com.example.taskmanagement.search;
+
+
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskSnapshot;
+import com.example.taskmanagement.entity.TaskStatus;
+import com.example.taskmanagement.event.TaskWriteListener;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Compressed (roaring) bitmap index over the equality-filter dimensions of
+// Task: status, priority, user and tag. Each distinct value owns a bitmap of
+// task ids, so a conjunctive filter is a handful of bitmap ANDs instead of a
+// table scan plus the task_tags join.
+//
+// Roaring bitmaps hold 32-bit values; if a task id ever exceeds
+// Integer.MAX_VALUE the index switches itself off and searches use SQL.
+@Component
+public class TaskBitmapIndex implements TaskWriteListener {
+    
+    private final Map<TaskStatus, RoaringBitmap> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<TaskPriority, RoaringBitmap> byPriority = new EnumMap<>(TaskPriority.class);
+    private final Map<Long, RoaringBitmap> byUser = new HashMap<>();
+    private final Map<String, RoaringBitmap> byTag = new HashMap<>();
+    
+    // What each task is currently indexed under, so an update can clear the old bits
+    private final Map<Long, IndexedDoc> docs = new HashMap<>();
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+    private volatile boolean overflowed;
+    
+    private static class IndexedDoc {
+        final long version;
+        final TaskStatus status;
+        final TaskPriority priority;
+        final Long userId;
+        final Set<String> tagNames;
+        
+        IndexedDoc(long version, TaskStatus status, TaskPriority priority, Long userId, Set<String> tagNames) {
+            this.version = version;
+            this.status = status;
+            this.priority = priority;
+            this.userId = userId;
+            this.tagNames = tagNames;
+        }
+    }
+    
+    public boolean isReady() {
+        return ready && !overflowed;
+    }
+    
+    // ========================================
+    // WRITES
+    // ========================================
+    
+    @Override
+    public void onTaskWritten(TaskSnapshot snapshot) {
+        if (snapshot.getId() > Integer.MAX_VALUE) {
+            overflowed = true;
+            return;
+        }
+        int id = snapshot.getId().intValue();
+        long version = snapshot.getVersion() != null ? snapshot.getVersion() : 0L;
+        
+        lock.writeLock().lock();
+        try {
+            IndexedDoc previous = docs.get(snapshot.getId());
+            if (previous != null && previous.version > version) {
+                return; // a replay raced with a newer committed write
+            }
+            // Tags are only known if they were loaded; otherwise keep the old ones
+            Set<String> tagNames = snapshot.getTagNames() != null ? snapshot.getTagNames()
+                    : previous != null ? previous.tagNames : Set.of();
+            
+            if (previous != null) {
+                clear(id, previous);
+            }
+            set(byStatus, snapshot.getStatus(), id);
+            set(byPriority, snapshot.getPriority(), id);
+            set(byUser, snapshot.getUserId(), id);
+            for (String tagName : tagNames) {
+                set(byTag, tagName, id);
+            }
+            docs.put(snapshot.getId(), new IndexedDoc(version, snapshot.getStatus(),
+                    snapshot.getPriority(), snapshot.getUserId(), tagNames));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void onTaskDeleted(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            IndexedDoc previous = docs.remove(taskId);
+            if (previous != null) {
+                clear(taskId.intValue(), previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void onReplayStarted() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            overflowed = false;
+            byStatus.clear();
+            byPriority.clear();
+            byUser.clear();
+            byTag.clear();
+            docs.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void onReplayFinished() {
+        ready = true;
+    }
+    
+    // Tag names are the index key, so a rename has to move the bitmap
+    public void renameTag(String oldName, String newName) {
+        if (Objects.equals(oldName, newName)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            RoaringBitmap ids = byTag.remove(oldName);
+            if (ids == null) {
+                return;
+            }
+            byTag.merge(newName, ids, (a, b) -> RoaringBitmap.or(a, b));
+            ids.forEach((int id) -> {
+                IndexedDoc doc = docs.get((long) id);
+                if (doc != null) {
+                    Set<String> renamed = new HashSet<>(doc.tagNames);
+                    renamed.remove(oldName);
+                    renamed.add(newName);
+                    docs.put((long) id, new IndexedDoc(doc.version, doc.status, doc.priority, doc.userId, renamed));
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void clear(int id, IndexedDoc doc) {
+        unset(byStatus, doc.status, id);
+        unset(byPriority, doc.priority, id);
+        unset(byUser, doc.userId, id);
+        for (String tagName : doc.tagNames) {
+            unset(byTag, tagName, id);
+        }
+    }
+    
+    private static <K> void set(Map<K, RoaringBitmap> dimension, K value, int id) {
+        if (value != null) {
+            dimension.computeIfAbsent(value, v -> new RoaringBitmap()).add(id);
+        }
+    }
+    
+    private static <K> void unset(Map<K, RoaringBitmap> dimension, K value, int id) {
+        if (value == null) {
+            return;
+        }
+        RoaringBitmap ids = dimension.get(value);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                dimension.remove(value);
+            }
+        }
+    }
+    
+    // ========================================
+    // QUERIES
+    // ========================================
+    
+    // AND of the bitmaps for every non-null filter. Returns null when the
+    // index is not usable or no filter was given (i.e. "no restriction").
+    public RoaringBitmap match(TaskStatus status, TaskPriority priority, Long userId, String tagName) {
+        if (!isReady() || (status == null && priority == null && userId == null && tagName == null)) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> operands = new ArrayList<>(4);
+            if (status != null) operands.add(byStatus.get(status));
+            if (priority != null) operands.add(byPriority.get(priority));
+            if (userId != null) operands.add(byUser.get(userId));
+            if (tagName != null) operands.add(byTag.get(tagName));
+            
+            // Smallest first keeps the intermediate results small
+            if (operands.contains(null)) {
+                return new RoaringBitmap();
+            }
+            operands.sort((a, b) -> Integer.compare(a.getCardinality(), b.getCardinality()));
+            RoaringBitmap result = operands.get(0).clone();
+            for (int i = 1; i < operands.size() && !result.isEmpty(); i++) {
+                result.and(operands.get(i));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Per-value hit counts for every facet dimension. Whichever side is
+    // smaller is walked: a small hit set is tallied task by task from what
+    // each task is indexed under, otherwise each facet value costs one
+    // |facet bitmap AND hits| without materializing the intersection. Either
+    // way the work is bounded by min(#hits, #facet values), not by the number
+    // of users and tags in the system.
+    // Returns null when the index is not usable.
+    public Map<String, Map<String, Long>> facetCounts(RoaringBitmap hits) {
+        if (!isReady()) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            int values = byStatus.size() + byPriority.size() + byUser.size() + byTag.size();
+            return hits.getCardinality() <= values ? countPerHit(hits) : countPerValue(hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private Map<String, Map<String, Long>> countPerHit(RoaringBitmap hits) {
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        Map<String, Long> priorities = new LinkedHashMap<>();
+        Map<String, Long> tags = new LinkedHashMap<>();
+        Map<String, Long> users = new LinkedHashMap<>();
+        hits.forEach((int id) -> {
+            IndexedDoc doc = docs.get((long) id);
+            if (doc == null) {
+                return;
+            }
+            tally(statuses, doc.status);
+            tally(priorities, doc.priority);
+            for (String tagName : doc.tagNames) {
+                tally(tags, tagName);
+            }
+            tally(users, doc.userId);
+        });
+        return facets(statuses, priorities, tags, users);
+    }
+    
+    private Map<String, Map<String, Long>> countPerValue(RoaringBitmap hits) {
+        return facets(countPerValue(byStatus, hits), countPerValue(byPriority, hits),
+                countPerValue(byTag, hits), countPerValue(byUser, hits));
+    }
+    
+    private static void tally(Map<String, Long> counts, Object value) {
+        if (value != null) {
+            counts.merge(String.valueOf(value), 1L, Long::sum);
+        }
+    }
+    
+    private static Map<String, Map<String, Long>> facets(Map<String, Long> statuses, Map<String, Long> priorities,
+                                                         Map<String, Long> tags, Map<String, Long> users) {
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("status", statuses);
+        facets.put("priority", priorities);
+        facets.put("tag", tags);
+        facets.put("user", users);
+        return facets;
+    }
+    
+    private static <K> Map<String, Long> countPerValue(Map<K, RoaringBitmap> dimension, RoaringBitmap hits) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        dimension.forEach((value, ids) -> {
+            long count = RoaringBitmap.andCardinality(ids, hits);
+            if (count > 0) {
+                counts.put(String.valueOf(value), count);
+            }
+        });
+        return counts;
+    }
+}
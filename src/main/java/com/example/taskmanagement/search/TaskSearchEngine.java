@@ -0,0 +1,250 @@
+package com.example.taskmanagement.search;
+
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskSearchDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Runs the SQL part of a TaskSearchDTO search (whatever TaskSearchPlan left
+// unresolved) as JPQL compiled once per query shape.
+//
+// The shape is which predicates are present (a bitmask) plus the ORDER BY.
+// Each shape maps to one fixed JPQL string with named parameters, so the hot
+// path only binds values: no Criteria tree is built, and Hibernate reuses its
+// cached translation of the string (query plan cache) instead of generating
+// SQL again.
+@Component
+public class TaskSearchEngine {
+
+    static final int STATUS = 1;
+    static final int PRIORITY = 1 << 1;
+    static final int USER = 1 << 2;
+    static final int KEYWORD = 1 << 3;
+    static final int TAG = 1 << 4;
+    static final int CREATED_AFTER = 1 << 5;
+    static final int CREATED_BEFORE = 1 << 6;
+    static final int CANDIDATES = 1 << 7;
+
+    // Sort properties accepted in ORDER BY (they are spliced into the JPQL;
+    // the fields= variant checks its Criteria sort against the same list)
+    private static final Set<String> SORTABLE = Set.of("id", "title", "status", "priority",
+            "createdAt", "updatedAt", "version");
+
+    // Predicates x sorts is bounded in practice; this guards against odd clients
+    private static final int MAX_SHAPES = 512;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Map<ShapeKey, CompiledShape> shapes = new ConcurrentHashMap<>();
+    private final LongAdder uncompiledExecutions = new LongAdder();
+
+    public List<Task> find(TaskSearchDTO searchDTO, TaskSearchPlan plan) {
+        int mask = maskOf(searchDTO, plan);
+        CompiledShape shape = lookup(mask, Sort.unsorted());
+        long start = System.nanoTime();
+        List<Task> tasks = bind(entityManager.createQuery(shape.select, Task.class), mask, searchDTO, plan)
+                .getResultList();
+        shape.record(System.nanoTime() - start, tasks.size());
+        return tasks;
+    }
+
+    public Page<Task> findPage(TaskSearchDTO searchDTO, TaskSearchPlan plan, Pageable pageable) {
+        int mask = maskOf(searchDTO, plan);
+        CompiledShape shape = lookup(mask, pageable.getSort());
+        long start = System.nanoTime();
+        List<Task> content = bind(entityManager.createQuery(shape.select, Task.class), mask, searchDTO, plan)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        // count(*) only when the page alone can't tell the total
+        Page<Task> page = PageableExecutionUtils.getPage(content, pageable, () ->
+                bind(entityManager.createQuery(shape.count, Long.class), mask, searchDTO, plan).getSingleResult());
+        shape.record(System.nanoTime() - start, content.size());
+        return page;
+    }
+
+    // Which predicates must run in SQL, given what the indexes already answered
+    static int maskOf(TaskSearchDTO searchDTO, TaskSearchPlan plan) {
+        int mask = 0;
+        if (!plan.isFiltersResolved()) {
+            if (searchDTO.getStatus() != null) mask |= STATUS;
+            if (searchDTO.getPriority() != null) mask |= PRIORITY;
+            if (searchDTO.getUserId() != null) mask |= USER;
+            if (searchDTO.getTagName() != null) mask |= TAG;
+        }
+        if (!plan.isKeywordResolved() && searchDTO.getKeyword() != null) mask |= KEYWORD;
+        if (searchDTO.getCreatedAfter() != null) mask |= CREATED_AFTER;
+        if (searchDTO.getCreatedBefore() != null) mask |= CREATED_BEFORE;
+        if (plan.hasCandidates()) mask |= CANDIDATES;
+        return mask;
+    }
+
+    // A lookup is a hit when the shape is already compiled and a miss when
+    // this call had to compile it (including past MAX_SHAPES, where the
+    // compiled shape is used once and not kept)
+    private CompiledShape lookup(int mask, Sort sort) {
+        ShapeKey key = new ShapeKey(mask, orderByOf(sort));
+        CompiledShape shape = shapes.get(key);
+        if (shape != null) {
+            shape.hits.increment();
+            return shape;
+        }
+        if (shapes.size() >= MAX_SHAPES) {
+            uncompiledExecutions.increment();
+            return compile(key);
+        }
+        CompiledShape[] compiled = new CompiledShape[1];
+        shape = shapes.computeIfAbsent(key, k -> compiled[0] = compile(k));
+        if (shape == compiled[0]) {
+            shape.misses.increment();
+        } else {
+            shape.hits.increment(); // another thread compiled it first
+        }
+        return shape;
+    }
+
+    private static CompiledShape compile(ShapeKey key) {
+        int mask = key.mask();
+        StringBuilder from = new StringBuilder(" FROM Task t");
+        if ((mask & TAG) != 0) from.append(" JOIN t.tags tg");
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if ((mask & STATUS) != 0) where.append(" AND t.status = :status");
+        if ((mask & PRIORITY) != 0) where.append(" AND t.priority = :priority");
+        if ((mask & USER) != 0) where.append(" AND t.user.id = :userId");
+        if ((mask & KEYWORD) != 0) where.append(" AND (LOWER(t.title) LIKE :keyword OR LOWER(t.description) LIKE :keyword)");
+        if ((mask & TAG) != 0) where.append(" AND tg.name = :tagName");
+        if ((mask & CREATED_AFTER) != 0) where.append(" AND t.createdAt >= :createdAfter");
+        if ((mask & CREATED_BEFORE) != 0) where.append(" AND t.createdAt <= :createdBefore");
+        if ((mask & CANDIDATES) != 0) where.append(" AND t.id IN :ids");
+
+        String select = "SELECT t" + from + where + key.orderBy();
+        String count = "SELECT COUNT(t)" + from + where;
+        return new CompiledShape(describe(key), select, count);
+    }
+
+    private static <T> TypedQuery<T> bind(TypedQuery<T> query, int mask, TaskSearchDTO searchDTO, TaskSearchPlan plan) {
+        if ((mask & STATUS) != 0) query.setParameter("status", searchDTO.getStatus());
+        if ((mask & PRIORITY) != 0) query.setParameter("priority", searchDTO.getPriority());
+        if ((mask & USER) != 0) query.setParameter("userId", searchDTO.getUserId());
+        if ((mask & KEYWORD) != 0) query.setParameter("keyword", "%" + searchDTO.getKeyword().toLowerCase() + "%");
+        if ((mask & TAG) != 0) query.setParameter("tagName", searchDTO.getTagName());
+        if ((mask & CREATED_AFTER) != 0) query.setParameter("createdAfter", searchDTO.getCreatedAfter());
+        if ((mask & CREATED_BEFORE) != 0) query.setParameter("createdBefore", searchDTO.getCreatedBefore());
+        if ((mask & CANDIDATES) != 0) query.setParameter("ids", plan.getCandidateIds());
+        return query;
+    }
+
+    // id is appended as the last key so paging over ties is deterministic
+    private static String orderByOf(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        checkSortable(sort);
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        for (Sort.Order order : sort) {
+            orderBy.append("t.").append(order.getProperty()).append(order.isAscending() ? " ASC, " : " DESC, ");
+        }
+        if (sort.getOrderFor("id") == null) {
+            return orderBy.append("t.id ASC").toString();
+        }
+        return orderBy.substring(0, orderBy.length() - 2);
+    }
+
+    public static void checkSortable(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORTABLE.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Cannot sort by " + order.getProperty() + ", allowed: " + SORTABLE);
+            }
+        }
+    }
+
+    private static String describe(ShapeKey key) {
+        String[] names = {"status", "priority", "user", "keyword", "tag", "createdAfter", "createdBefore", "candidates"};
+        StringBuilder description = new StringBuilder();
+        for (int bit = 0; bit < names.length; bit++) {
+            if ((key.mask() & (1 << bit)) != 0) {
+                description.append(description.length() == 0 ? "" : "+").append(names[bit]);
+            }
+        }
+        if (description.length() == 0) {
+            description.append("all");
+        }
+        return description + key.orderBy().replace(" ORDER BY t.", " by ").replace(", t.", ", ");
+    }
+
+    // Per shape: lookups served from the cache (hits) or compiled (misses),
+    // executions, rows and time
+    public Map<String, Object> getStats() {
+        Map<String, Object> perShape = new LinkedHashMap<>();
+        long totalHits = 0;
+        long totalMisses = uncompiledExecutions.sum();
+        for (CompiledShape shape : shapes.values()) {
+            long hits = shape.hits.sum();
+            long misses = shape.misses.sum();
+            totalHits += hits;
+            totalMisses += misses;
+            long executions = shape.executions.sum();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("hits", hits);
+            stats.put("misses", misses);
+            stats.put("hitRate", hitRate(hits, misses));
+            stats.put("executions", executions);
+            stats.put("rows", shape.rows.sum());
+            stats.put("avgMillis", executions == 0 ? 0.0 : shape.nanos.sum() / 1_000_000.0 / executions);
+            stats.put("jpql", shape.select);
+            perShape.put(shape.description, stats);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("shapes", shapes.size());
+        result.put("hits", totalHits);
+        result.put("misses", totalMisses);
+        result.put("hitRate", hitRate(totalHits, totalMisses));
+        result.put("uncachedExecutions", uncompiledExecutions.sum());
+        result.put("byShape", perShape);
+        return result;
+    }
+
+    private static double hitRate(long hits, long misses) {
+        return hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+    }
+
+    private record ShapeKey(int mask, String orderBy) {}
+
+    private static final class CompiledShape {
+        private final String description;
+        private final String select;
+        private final String count;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private CompiledShape(String description, String select, String count) {
+            this.description = description;
+            this.select = select;
+            this.count = count;
+        }
+
+        private void record(long elapsedNanos, int rowCount) {
+            executions.increment();
+            rows.add(rowCount);
+            nanos.add(elapsedNanos);
+        }
+    }
+}
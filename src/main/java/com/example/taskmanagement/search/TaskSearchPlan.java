@@ -0,0 +1,64 @@
+package com.example.taskmanagement.search;
+
+
+import org.roaringbitmap.RoaringBitmap;
+import java.util.ArrayList;
+import java.util.List;
+
+// What the in-memory indexes could answer for one TaskSearchDTO.
+// The caller only has to run the predicates that are not resolved here,
+// restricted to the candidate ids.
+public class TaskSearchPlan {
+    
+    private final RoaringBitmap candidates; // null = no restriction from the indexes
+    private final List<Long> ranking;       // text relevance order, null if keyword not resolved
+    private final boolean filtersResolved;  // status / priority / user / tag
+    private final boolean keywordResolved;
+    
+    public TaskSearchPlan(RoaringBitmap candidates, List<Long> ranking,
+                          boolean filtersResolved, boolean keywordResolved) {
+        this.candidates = candidates;
+        this.ranking = ranking;
+        this.filtersResolved = filtersResolved;
+        this.keywordResolved = keywordResolved;
+    }
+    
+    // Nothing resolved: plain SQL search
+    public static TaskSearchPlan unresolved() {
+        return new TaskSearchPlan(null, null, false, false);
+    }
+    
+    public boolean isEmpty() {
+        return candidates != null && candidates.isEmpty();
+    }
+    
+    public boolean hasCandidates() {
+        return candidates != null;
+    }
+    
+    public RoaringBitmap getCandidates() {
+        return candidates;
+    }
+    
+    // Candidate ids for an IN (...) predicate, or null for no restriction
+    public List<Long> getCandidateIds() {
+        if (candidates == null) {
+            return null;
+        }
+        List<Long> ids = new ArrayList<>(candidates.getCardinality());
+        candidates.forEach((int id) -> ids.add((long) id));
+        return ids;
+    }
+    
+    public List<Long> getRanking() {
+        return ranking;
+    }
+    
+    public boolean isFiltersResolved() {
+        return filtersResolved;
+    }
+    
+    public boolean isKeywordResolved() {
+        return keywordResolved;
+    }
+}
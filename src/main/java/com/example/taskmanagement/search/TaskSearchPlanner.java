@@ -0,0 +1,55 @@
+package com.example.taskmanagement.search;
+
+
+import com.example.taskmanagement.entity.TaskSearchDTO;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+// Resolves as much of a TaskSearchDTO as possible from the in-memory indexes:
+// equality filters through TaskBitmapIndex, the keyword through TaskTextIndex.
+// A keyword the text index only narrows (not a single word) still runs as
+// LIKE in SQL, over the narrowed candidates.
+@Component
+public class TaskSearchPlanner {
+    
+    @Autowired
+    private TaskBitmapIndex bitmapIndex;
+    
+    @Autowired
+    private TaskTextIndex textIndex;
+    
+    // Above this many candidates an IN (...) list stops paying off; use SQL instead
+    @Value("${app.search.index.max-candidates:10000}")
+    private int maxCandidates;
+    
+    public TaskSearchPlan plan(TaskSearchDTO searchDTO) {
+        RoaringBitmap candidates = bitmapIndex.match(
+                searchDTO.getStatus(), searchDTO.getPriority(), searchDTO.getUserId(), searchDTO.getTagName());
+        boolean filtersResolved = candidates != null;
+        
+        List<Long> ranking = null;
+        if (searchDTO.getKeyword() != null) {
+            ranking = textIndex.search(searchDTO.getKeyword(), maxCandidates);
+            if (ranking != null && ranking.stream().anyMatch(id -> id > Integer.MAX_VALUE)) {
+                ranking = null; // can't be represented in a 32-bit bitmap
+            }
+            if (ranking != null) {
+                RoaringBitmap textMatches = new RoaringBitmap();
+                for (Long id : ranking) {
+                    textMatches.add(id.intValue());
+                }
+                candidates = candidates == null ? textMatches : RoaringBitmap.and(candidates, textMatches);
+            }
+        }
+        boolean keywordResolved = ranking != null && TaskTextIndex.isExact(searchDTO.getKeyword());
+        
+        if (candidates != null && !candidates.isEmpty() && candidates.getCardinality() > maxCandidates) {
+            // Too broad to ship as an id list; let the database do all of it
+            return TaskSearchPlan.unresolved();
+        }
+        return new TaskSearchPlan(candidates, ranking, filtersResolved, keywordResolved);
+    }
+}
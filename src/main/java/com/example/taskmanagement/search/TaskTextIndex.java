@@ -0,0 +1,296 @@
+package com.example.taskmanagement.search;
+
+
+import com.example.taskmanagement.entity.TaskSnapshot;
+import com.example.taskmanagement.event.TaskWriteListener;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Embedded inverted index over Task title + description.
+//
+// Text is split into lower-case alphanumeric tokens; each term keeps a
+// postings list of taskId -> weighted term frequency (title hits count
+// TITLE_WEIGHT times). A query matches tasks containing every query token
+// as a substring of some term, ranked by tf-idf. Terms containing a token are
+// found through an n-gram index (every 1- to GRAM-character substring of a
+// term -> the terms containing it), which stays linear in the term length.
+// Kept up to date from committed writes via TaskWriteListener; rebuilt from
+// the DB at startup.
+//
+// Keyword semantics are the SQL ones (case-insensitive substring of title or
+// description, LIKE '%keyword%'). For a keyword that is a single word (only
+// letters/digits) "substring of the text" and "substring of one term" are the
+// same thing, so the index answers it exactly (see isExact). Anything else
+// ("write the", "v1.2") is only narrowed here to a superset of candidates and
+// the LIKE still runs in SQL.
+@Component
+public class TaskTextIndex implements TaskWriteListener {
+    
+    private static final int TITLE_WEIGHT = 3;
+    
+    // A query token matching more distinct terms than this is too broad to
+    // be worth answering from the index (e.g. a single letter)
+    private static final int MAX_TERM_EXPANSION = 1000;
+    
+    // Longest n-gram indexed; a longer token is looked up by its rarest
+    // n-gram and the candidate terms are checked with contains()
+    private static final int GRAM = 3;
+    
+    // term -> (taskId -> weighted tf)
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    
+    // n-gram -> terms containing it
+    private final Map<String, Set<String>> grams = new ConcurrentHashMap<>();
+    
+    // taskId -> what it is currently indexed under (needed to un-index it)
+    private final Map<Long, IndexedDoc> docs = new ConcurrentHashMap<>();
+    
+    private volatile boolean ready;
+    
+    private static class IndexedDoc {
+        final long version;
+        final Set<String> terms;
+        
+        IndexedDoc(long version, Set<String> terms) {
+            this.version = version;
+            this.terms = terms;
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public int size() {
+        return docs.size();
+    }
+    
+    // ========================================
+    // WRITES (single writer at a time)
+    // ========================================
+    
+    @Override
+    public synchronized void onTaskWritten(TaskSnapshot snapshot) {
+        long version = snapshot.getVersion() != null ? snapshot.getVersion() : 0L;
+        IndexedDoc previous = docs.get(snapshot.getId());
+        if (previous != null && previous.version > version) {
+            return; // a replay raced with a newer committed write
+        }
+        
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokenize(snapshot.getTitle())) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(snapshot.getDescription())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        
+        if (previous != null) {
+            removePostings(snapshot.getId(), previous.terms);
+        }
+        frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, t -> {
+            addGrams(t);
+            return new ConcurrentHashMap<>();
+        }).put(snapshot.getId(), tf));
+        docs.put(snapshot.getId(), new IndexedDoc(version, frequencies.keySet()));
+    }
+    
+    @Override
+    public synchronized void onTaskDeleted(Long taskId) {
+        IndexedDoc previous = docs.remove(taskId);
+        if (previous != null) {
+            removePostings(taskId, previous.terms);
+        }
+    }
+    
+    @Override
+    public synchronized void onReplayStarted() {
+        ready = false;
+        postings.clear();
+        grams.clear();
+        docs.clear();
+    }
+    
+    @Override
+    public void onReplayFinished() {
+        ready = true;
+    }
+    
+    private void removePostings(Long taskId, Set<String> terms) {
+        for (String term : terms) {
+            postings.computeIfPresent(term, (t, ids) -> {
+                ids.remove(taskId);
+                if (ids.isEmpty()) {
+                    removeGrams(t);
+                    return null;
+                }
+                return ids;
+            });
+        }
+    }
+    
+    private void addGrams(String term) {
+        for (String gram : gramsOf(term)) {
+            grams.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(term);
+        }
+    }
+    
+    private void removeGrams(String term) {
+        for (String gram : gramsOf(term)) {
+            grams.computeIfPresent(gram, (g, terms) -> {
+                terms.remove(term);
+                return terms.isEmpty() ? null : terms;
+            });
+        }
+    }
+    
+    // Distinct substrings of 1..GRAM characters: at most GRAM per position
+    private static Set<String> gramsOf(String term) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < term.length(); i++) {
+            for (int n = 1; n <= GRAM && i + n <= term.length(); n++) {
+                result.add(term.substring(i, i + n));
+            }
+        }
+        return result;
+    }
+    
+    // Terms containing the token, or null when there are too many
+    private Set<String> termsContaining(String token) {
+        if (token.length() <= GRAM) {
+            Set<String> terms = grams.getOrDefault(token, Set.of());
+            return terms.size() > MAX_TERM_EXPANSION ? null : terms;
+        }
+        Set<String> rarest = null;
+        for (int i = 0; i + GRAM <= token.length(); i++) {
+            Set<String> terms = grams.get(token.substring(i, i + GRAM));
+            if (terms == null) {
+                return Set.of();
+            }
+            if (rarest == null || terms.size() < rarest.size()) {
+                rarest = terms;
+            }
+        }
+        Set<String> terms = new HashSet<>();
+        for (String term : rarest) {
+            if (term.contains(token)) {
+                terms.add(term);
+                if (terms.size() > MAX_TERM_EXPANSION) {
+                    return null;
+                }
+            }
+        }
+        return terms;
+    }
+    
+    // ========================================
+    // QUERIES
+    // ========================================
+    
+    // Task ids matching every token of the keyword, best match first.
+    // Exactly the SQL matches when isExact(keyword), a superset otherwise.
+    // Returns null when the index can't answer (not built yet, no usable
+    // tokens, a token too broad, or more than maxCandidates hits) so the
+    // caller can fall back to SQL.
+    public List<Long> search(String keyword, int maxCandidates) {
+        if (!ready) {
+            return null;
+        }
+        Set<String> tokens = new LinkedHashSet<>(tokenize(keyword));
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        
+        double docCount = Math.max(1, docs.size());
+        Map<Long, Double> scores = null;
+        for (String token : tokens) {
+            Set<String> terms = termsContaining(token);
+            if (terms == null) {
+                return null;
+            }
+            
+            Map<Long, Double> tokenScores = new HashMap<>();
+            for (String term : terms) {
+                Map<Long, Integer> ids = postings.get(term);
+                if (ids == null) {
+                    continue; // removed since the n-gram lookup
+                }
+                double idf = Math.log(1 + docCount / Math.max(1, ids.size()));
+                ids.forEach((taskId, tf) -> tokenScores.merge(taskId, tf * idf, Double::sum));
+            }
+            
+            // AND across tokens
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                Map<Long, Double> intersection = new HashMap<>();
+                for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                    Double other = tokenScores.get(entry.getKey());
+                    if (other != null) {
+                        intersection.put(entry.getKey(), entry.getValue() + other);
+                    }
+                }
+                scores = intersection;
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+        
+        if (scores.size() > maxCandidates) {
+            return null;
+        }
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+        List<Long> ids = new ArrayList<>(ranked.size());
+        ranked.forEach(entry -> ids.add(entry.getKey()));
+        return ids;
+    }
+    
+    // Whether search(keyword) is the exact SQL keyword match rather than a
+    // superset: the keyword is one run of letters/digits, so any occurrence in
+    // the text lies inside a single term
+    public static boolean isExact(String keyword) {
+        if (keyword == null || keyword.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            if (!Character.isLetterOrDigit(keyword.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    // Lower-case runs of letters/digits
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.taskmanagement.seed;
+
+
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Loads a synthetic, reproducible dataset straight through JDBC batches:
+// no entities, no persistence context, no per-row listeners. Tasks are
+// inserted with explicit ids and tasks_seq is moved past them afterwards.
+//
+// Writes bypass TaskWriteDispatcher, so callers running after startup must
+// call TaskWriteReplayer.replayAll() to rebuild the in-memory indexes and
+// counters (at startup, the ApplicationReadyEvent replay already does this).
+@Component
+public class DatasetGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    public static final String[] TITLE_WORDS = {
+        "report", "deploy", "invoice", "review", "release", "backup",
+        "migration", "meeting", "budget", "audit", "design", "hiring",
+        "roadmap", "outage", "contract", "onboarding", "security", "refactor"
+    };
+
+    // Weighted the way a long-lived tracker looks: mostly finished work
+    private static final TaskStatus[] STATUSES = {
+        TaskStatus.DONE, TaskStatus.DONE, TaskStatus.DONE, TaskStatus.DONE, TaskStatus.DONE,
+        TaskStatus.TODO, TaskStatus.TODO, TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.IN_PROGRESS
+    };
+    private static final TaskPriority[] PRIORITIES = {
+        TaskPriority.LOW, TaskPriority.LOW, TaskPriority.LOW, TaskPriority.MEDIUM, TaskPriority.MEDIUM,
+        TaskPriority.MEDIUM, TaskPriority.MEDIUM, TaskPriority.MEDIUM, TaskPriority.HIGH, TaskPriority.HIGH
+    };
+
+    // Must match @SequenceGenerator(allocationSize) on Task.id
+    private static final int TASK_ID_ALLOCATION_SIZE = 100;
+
+    private static final String INSERT_TASK =
+            "INSERT INTO tasks (id, title, description, status, priority, version, user_id, " +
+            "created_at, updated_at, created_by, updated_by) VALUES (?, ?, ?, ?, ?, 0, ?, ?, ?, 'seed', 'seed')";
+    private static final String INSERT_TAG_LINK = "INSERT INTO task_tags (task_id, tag_id) VALUES (?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    public DatasetSummary generate(DatasetSpec spec) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("Seeding expects an empty tasks table, found " + existing + " rows");
+        }
+
+        long start = System.currentTimeMillis();
+        Random random = new Random(spec.getSeed());
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        List<Long> userIds = tx.execute(status -> insertUsers(spec));
+        List<String> tagNames = new ArrayList<>();
+        List<Long> tagIds = tx.execute(status -> insertTags(spec, tagNames));
+
+        ZipfSampler userSampler = new ZipfSampler(userIds.size(), spec.getUserSkew());
+        ZipfSampler tagSampler = new ZipfSampler(tagIds.size(), spec.getTagSkew());
+        LocalDateTime now = LocalDateTime.now();
+        long windowSeconds = spec.getDays() * 86_400L;
+
+        int batchSize = spec.getBatchSize();
+        List<Object[]> taskRows = new ArrayList<>(batchSize);
+        List<Object[]> linkRows = new ArrayList<>(batchSize * 2);
+        long links = 0;
+
+        for (long id = 1; id <= spec.getTasks(); id++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds((long) (random.nextDouble() * windowSeconds)));
+            Timestamp updatedAt = Timestamp.valueOf(createdAt.toLocalDateTime().plusMinutes(random.nextInt(60 * 24 * 14)));
+            if (updatedAt.toLocalDateTime().isAfter(now)) {
+                updatedAt = Timestamp.valueOf(now);
+            }
+            String first = TITLE_WORDS[random.nextInt(TITLE_WORDS.length)];
+            String second = TITLE_WORDS[random.nextInt(TITLE_WORDS.length)];
+            taskRows.add(new Object[]{
+                id,
+                first + " " + second + " #" + id,
+                "Generated task about the " + second + " " + TITLE_WORDS[random.nextInt(TITLE_WORDS.length)],
+                // Raw JDBC: write the SMALLINT codes the converters would
+                STATUSES[random.nextInt(STATUSES.length)].getCode(),
+                PRIORITIES[random.nextInt(PRIORITIES.length)].getCode(),
+                userIds.get(userSampler.sample(random)),
+                createdAt,
+                updatedAt
+            });
+
+            // Distinct tags per task; popular tags are drawn more often
+            int tagCount = random.nextInt(Math.min(spec.getMaxTagsPerTask(), tagIds.size()) + 1);
+            long[] chosen = new long[tagCount];
+            for (int i = 0; i < tagCount; i++) {
+                long tagId;
+                boolean duplicate;
+                do {
+                    tagId = tagIds.get(tagSampler.sample(random));
+                    duplicate = false;
+                    for (int j = 0; j < i; j++) {
+                        duplicate |= chosen[j] == tagId;
+                    }
+                } while (duplicate);
+                chosen[i] = tagId;
+                linkRows.add(new Object[]{id, tagId});
+            }
+            links += tagCount;
+
+            if (taskRows.size() == batchSize) {
+                flush(tx, taskRows, linkRows);
+            }
+            if (id % 1_000_000 == 0) {
+                log.info("Seeded {} of {} tasks", id, spec.getTasks());
+            }
+        }
+        flush(tx, taskRows, linkRows);
+
+        // Next block handed out by the pooled optimizer starts above the seeded ids
+        jdbcTemplate.execute("ALTER SEQUENCE tasks_seq RESTART WITH " + (spec.getTasks() + 1 + TASK_ID_ALLOCATION_SIZE));
+
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Seeded {} users, {} tags, {} tasks and {} tag links in {} ms",
+                userIds.size(), tagIds.size(), spec.getTasks(), links, elapsed);
+        return new DatasetSummary(userIds, tagNames, spec.getTasks(), links, elapsed);
+    }
+
+    // Users and tags use IDENTITY ids, so insert without ids and read them back
+    private List<Long> insertUsers(DatasetSpec spec) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusDays(spec.getDays()));
+        List<Object[]> rows = new ArrayList<>(spec.getUsers());
+        for (int i = 0; i < spec.getUsers(); i++) {
+            rows.add(new Object[]{"seed_user_" + i, "seed_user_" + i + "@example.com", createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (username, email, created_at) VALUES (?, ?, ?)", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM users WHERE id > ? ORDER BY id", Long.class, maxId);
+    }
+
+    private List<Long> insertTags(DatasetSpec spec, List<String> names) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM tags", Long.class);
+        List<Object[]> rows = new ArrayList<>(spec.getTags());
+        for (int i = 0; i < spec.getTags(); i++) {
+            String name = "seed-tag-" + i;
+            names.add(name);
+            rows.add(new Object[]{name, String.format("#%06X", (i * 2654435761L) & 0xFFFFFF)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tags (name, color) VALUES (?, ?)", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM tags WHERE id > ? ORDER BY id", Long.class, maxId);
+    }
+
+    private void flush(TransactionTemplate tx, List<Object[]> taskRows, List<Object[]> linkRows) {
+        if (taskRows.isEmpty()) {
+            return;
+        }
+        tx.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_TASK, taskRows);
+            if (!linkRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_TAG_LINK, linkRows);
+            }
+        });
+        taskRows.clear();
+        linkRows.clear();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.taskmanagement.seed;
+
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// Seeds the (empty, create-drop) database on startup when the "seed" profile
+// is active, e.g.
+//   java -jar app.jar --spring.profiles.active=seed --app.seed.tasks=10000000
+// Runners finish before ApplicationReadyEvent, so the index replay at
+// startup already sees the seeded rows.
+@Component
+@Profile("seed")
+public class DatasetSeedRunner implements ApplicationRunner {
+    
+    @Autowired
+    private DatasetGenerator generator;
+    
+    @Value("${app.seed.users:1000}")
+    private int users;
+    
+    @Value("${app.seed.tags:200}")
+    private int tags;
+    
+    @Value("${app.seed.tasks:1000000}")
+    private long tasks;
+    
+    @Value("${app.seed.max-tags-per-task:4}")
+    private int maxTagsPerTask;
+    
+    @Value("${app.seed.user-skew:1.1}")
+    private double userSkew;
+    
+    @Value("${app.seed.tag-skew:1.0}")
+    private double tagSkew;
+    
+    @Value("${app.seed.days:365}")
+    private int days;
+    
+    @Value("${app.seed.random-seed:42}")
+    private long seed;
+    
+    @Value("${app.seed.batch-size:5000}")
+    private int batchSize;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        DatasetSpec spec = new DatasetSpec();
+        spec.setUsers(users);
+        spec.setTags(tags);
+        spec.setTasks(tasks);
+        spec.setMaxTagsPerTask(maxTagsPerTask);
+        spec.setUserSkew(userSkew);
+        spec.setTagSkew(tagSkew);
+        spec.setDays(days);
+        spec.setSeed(seed);
+        spec.setBatchSize(batchSize);
+        generator.generate(spec);
+    }
+}
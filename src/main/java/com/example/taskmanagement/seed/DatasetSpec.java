@@ -0,0 +1,92 @@
+package com.example.taskmanagement.seed;
+
+
+// What DatasetGenerator should produce. The same spec (seed included)
+// always yields the same rows.
+public class DatasetSpec {
+    private int users = 1_000;
+    private int tags = 200;
+    private long tasks = 1_000_000;
+    private int maxTagsPerTask = 4;
+    // Skew of tasks per user and of tag popularity (0 = uniform)
+    private double userSkew = 1.1;
+    private double tagSkew = 1.0;
+    // created_at is spread over this many days before now
+    private int days = 365;
+    private long seed = 42L;
+    // Rows per JDBC batch (one transaction each)
+    private int batchSize = 5_000;
+    
+    // Getters and Setters
+    public int getUsers() {
+        return users;
+    }
+    
+    public void setUsers(int users) {
+        this.users = users;
+    }
+    
+    public int getTags() {
+        return tags;
+    }
+    
+    public void setTags(int tags) {
+        this.tags = tags;
+    }
+    
+    public long getTasks() {
+        return tasks;
+    }
+    
+    public void setTasks(long tasks) {
+        this.tasks = tasks;
+    }
+    
+    public int getMaxTagsPerTask() {
+        return maxTagsPerTask;
+    }
+    
+    public void setMaxTagsPerTask(int maxTagsPerTask) {
+        this.maxTagsPerTask = maxTagsPerTask;
+    }
+    
+    public double getUserSkew() {
+        return userSkew;
+    }
+    
+    public void setUserSkew(double userSkew) {
+        this.userSkew = userSkew;
+    }
+    
+    public double getTagSkew() {
+        return tagSkew;
+    }
+    
+    public void setTagSkew(double tagSkew) {
+        this.tagSkew = tagSkew;
+    }
+    
+    public int getDays() {
+        return days;
+    }
+    
+    public void setDays(int days) {
+        this.days = days;
+    }
+    
+    public long getSeed() {
+        return seed;
+    }
+    
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+    
+    public int getBatchSize() {
+        return batchSize;
+    }
+    
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
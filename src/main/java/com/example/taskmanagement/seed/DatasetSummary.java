@@ -0,0 +1,41 @@
+package com.example.taskmanagement.seed;
+
+
+import java.util.List;
+
+public class DatasetSummary {
+    private final List<Long> userIds;
+    private final List<String> tagNames;
+    private final long tasks;
+    private final long tagLinks;
+    private final long elapsedMillis;
+    
+    public DatasetSummary(List<Long> userIds, List<String> tagNames, long tasks, long tagLinks, long elapsedMillis) {
+        this.userIds = userIds;
+        this.tagNames = tagNames;
+        this.tasks = tasks;
+        this.tagLinks = tagLinks;
+        this.elapsedMillis = elapsedMillis;
+    }
+    
+    // In Zipf rank order: the first user owns the most tasks, the first tag is the most used
+    public List<Long> getUserIds() {
+        return userIds;
+    }
+    
+    public List<String> getTagNames() {
+        return tagNames;
+    }
+    
+    public long getTasks() {
+        return tasks;
+    }
+    
+    public long getTagLinks() {
+        return tagLinks;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.taskmanagement.seed;
+
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Draws ranks 0..n-1 with P(k) proportional to 1 / (k + 1)^exponent, by binary
+// search over a precomputed CDF. Exponent 0 is uniform; around 1 a few ranks
+// dominate (a handful of users own most of the tasks). All randomness comes
+// from the caller's Random, so a fixed seed gives a fixed sequence.
+public class ZipfSampler {
+    
+    private final double[] cdf;
+    
+    public ZipfSampler(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        cdf = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cdf[k] /= sum;
+        }
+    }
+    
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cdf.length - 1);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.taskmanagement.service;
+
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Hit / miss / put counts per second-level cache region (from Hibernate's
+// statistics) plus evictions and size (from the underlying Caffeine cache)
+@Service
+public class CacheStatsService {
+    
+    private static final List<String> ENTITY_REGIONS = List.of("tags", "users");
+    private static final List<String> QUERY_REGIONS = List.of("tag-queries");
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    public Map<String, Map<String, Object>> getRegionStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        
+        Map<String, Map<String, Object>> regions = new LinkedHashMap<>();
+        for (String region : ENTITY_REGIONS) {
+            regions.put(region, describe(statistics.getDomainDataRegionStatistics(region), cacheManager, region));
+        }
+        for (String region : QUERY_REGIONS) {
+            regions.put(region, describe(statistics.getQueryRegionStatistics(region), cacheManager, region));
+        }
+        return regions;
+    }
+    
+    private static Map<String, Object> describe(CacheRegionStatistics region, CacheManager cacheManager,
+                                                String regionName) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long hits = region != null ? region.getHitCount() : 0;
+        long misses = region != null ? region.getMissCount() : 0;
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("puts", region != null ? region.getPutCount() : 0);
+        stats.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        
+        Cache<Object, Object> cache = cacheManager.getCache(regionName);
+        if (cache != null) {
+            com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine =
+                    cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+            stats.put("evictions", caffeine.stats().evictionCount());
+            stats.put("size", caffeine.estimatedSize());
+        }
+        return stats;
+    }
+}
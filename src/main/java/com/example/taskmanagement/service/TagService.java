@@ -2,8 +2,12 @@ package com.example.taskmanagement.service;
 
 import com.example.taskmanagement.entity.Tag;
 import com.example.taskmanagement.repository.TagRepository;
+import com.example.taskmanagement.search.TaskBitmapIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +17,9 @@ public class TagService {
     @Autowired
     private TagRepository tagRepository;
     
+    @Autowired
+    private TaskBitmapIndex bitmapIndex;
+    
     public Tag createTag(Tag tag) {
         if (tagRepository.existsByName(tag.getName())) {
             throw new RuntimeException("Tag already exists");
@@ -40,16 +47,30 @@ public class TagService {
         return tagRepository.findByUserId(userId);
     }
     
+    // Tags are in the second-level cache (READ_WRITE): the entity region and
+    // the findByName query cache are updated / invalidated on commit
+    @Transactional
     public Tag updateTag(Long id, Tag tagDetails) {
         Tag tag = tagRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Tag not found"));
+        String oldName = tag.getName();
         
         tag.setName(tagDetails.getName());
         tag.setColor(tagDetails.getColor());
         
-        return tagRepository.save(tag);
+        Tag saved = tagRepository.save(tag);
+        // The bitmap index is keyed by tag name; move it once the rename is committed
+        String newName = saved.getName();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bitmapIndex.renameTag(oldName, newName);
+            }
+        });
+        return saved;
     }
     
+    @Transactional
     public void deleteTag(Long id) {
         tagRepository.deleteById(id);
     }
@@ -4,24 +4,84 @@ import com.example.taskmanagement.entity.Task;
 import com.example.taskmanagement.entity.Tag;
 import com.example.taskmanagement.entity.User;
 import com.example.taskmanagement.entity.TaskSearchDTO;
+import com.example.taskmanagement.entity.TaskCursorPage;
+import com.example.taskmanagement.entity.BulkCreateResultDTO;
+import com.example.taskmanagement.entity.BatchDeleteResultDTO;
+import com.example.taskmanagement.entity.TaskSearchResultDTO;
+import com.example.taskmanagement.entity.TaskSummaryDTO;
+import com.example.taskmanagement.entity.TaskCountsDTO;
+import com.example.taskmanagement.entity.TaskSnapshot;
+import com.example.taskmanagement.entity.TaskStatus;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskField;
+import com.example.taskmanagement.entity.StatusTransitionDTO;
+import com.example.taskmanagement.entity.StatusTransitionResultDTO;
+import com.example.taskmanagement.entity.AuditEntryDTO;
 import com.example.taskmanagement.repository.TaskRepository;
 import com.example.taskmanagement.repository.TagRepository;
 import com.example.taskmanagement.repository.UserRepository;
 import com.example.taskmanagement.specification.TaskSpecification;
+import com.example.taskmanagement.event.TaskWriteDispatcher;
+import com.example.taskmanagement.counter.TaskCounterKey;
+import com.example.taskmanagement.counter.TaskCounterStore;
+import com.example.taskmanagement.audit.AuditJournal;
+import com.example.taskmanagement.retry.OptimisticRetryExecutor;
+import com.example.taskmanagement.search.TaskBitmapIndex;
+import com.example.taskmanagement.search.TaskSearchEngine;
+import com.example.taskmanagement.search.TaskSearchPlan;
+import com.example.taskmanagement.search.TaskSearchPlanner;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Propagation;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class TaskService {
 
+    // Matches the fetch size of TaskRepository.streamAll
+    private static final int STREAM_CHUNK_SIZE = 500;
+
+    // Keyset pagination may only sort on index-backed keys
+    // (the primary key, and idx_tasks_created_at_id)
+    private static final Set<String> CURSOR_SORT_KEYS = Set.of("createdAt", "id");
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
+    // Keeps IN (...) lists well below driver/database parameter limits
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    // Conditional UPDATE for batch transitions: matches only if the version is unchanged
+    private static final String TRANSITION_STATUS =
+            "UPDATE tasks SET status = ?, version = version + 1, updated_at = ?, updated_by = ? " +
+            "WHERE id = ? AND version = ?";
+
     @Autowired
     private TaskRepository taskRepository;
 
@@ -31,6 +91,40 @@ public class TaskService {
     @Autowired
     private TagRepository tagRepository;
 
+    @Autowired
+    private TaskSearchPlanner searchPlanner;
+
+    @Autowired
+    private TaskSearchEngine searchEngine;
+
+    @Autowired
+    private TaskBitmapIndex bitmapIndex;
+
+    @Autowired
+    private TaskWriteDispatcher writeDispatcher;
+
+    @Autowired
+    private TaskCounterStore counterStore;
+
+    @Autowired
+    private AuditJournal auditJournal;
+
+    @Autowired
+    private OptimisticRetryExecutor retryExecutor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuditorAware<String> auditorProvider;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // One flush per chunk; matches the JDBC batch size so a chunk is one round trip
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int bulkChunkSize;
+
     // ========================================
     // TRANSACTION EXAMPLES
     // ========================================
@@ -56,6 +150,34 @@ public class TaskService {
         return taskRepository.findAll();
     }
 
+    // Sparse fieldset of every task: only the selected columns are read
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllTaskFields(List<TaskField> fields) {
+        return taskRepository.findFields((root, query, cb) -> null, fields, Sort.unsorted());
+    }
+
+    // Streaming read: hands tasks to the consumer while the cursor is open,
+    // a chunk at a time. The tags of a chunk are fetched with one query
+    // (serializing a task reads them) and the persistence context is cleared
+    // after each chunk, so it (and the heap) stays flat no matter how many
+    // rows there are
+    @Transactional(readOnly = true)
+    public void streamAllTasks(Consumer<Task> consumer) {
+        try (Stream<Task> tasks = taskRepository.streamAll()) {
+            List<Task> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == STREAM_CHUNK_SIZE || !iterator.hasNext()) {
+                    taskRepository.fetchTagsByIdIn(chunk.stream().map(Task::getId).toList());
+                    chunk.forEach(consumer);
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
     // Transaction with rollback on specific exception
     @Transactional(rollbackFor = Exception.class)
     public Task createTaskWithValidation(Long userId, Task task) {
@@ -94,91 +216,321 @@ public class TaskService {
         // If any save fails, ALL are rolled back
     }
 
+    // Bulk insert for large imports: persists in chunks, flushing (one JDBC
+    // batch) and clearing after each chunk so the persistence context never
+    // holds more than one chunk of tasks
+    @Transactional
+    public BulkCreateResultDTO createTasksInBulk(Long userId, List<Task> tasks) {
+        // Served from the second-level cache after the first lookup
+        userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        List<Long> ids = new ArrayList<>(tasks.size());
+        User user = entityManager.getReference(User.class, userId);
+
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            task.setUser(user);
+            entityManager.persist(task);
+            ids.add(task.getId()); // assigned from the sequence pool at persist time
+
+            if ((i + 1) % bulkChunkSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                user = entityManager.getReference(User.class, userId);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        return new BulkCreateResultDTO(ids.size(), ids);
+    }
+
     // ========================================
     // OPTIMISTIC LOCKING EXAMPLE
     // ========================================
 
-    @Transactional
+    // Single attempt in its own transaction. The version check runs at
+    // commit, which is inside the executor, so a conflict really is caught.
     public Task updateTaskWithOptimisticLock(Long id, Task taskDetails) {
+        try {
+            return retryExecutor.execute("updateTask", 1, () -> applyUpdate(id, taskDetails, true));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new RuntimeException("Task was updated by another user. Please refresh and try again.");
+        }
+    }
+
+    // Retry logic for optimistic locking failures: every attempt reloads the
+    // task in a fresh transaction; backoff happens with no transaction open
+    public Task updateTaskWithRetry(Long id, Task taskDetails, int maxRetries) {
+        try {
+            return retryExecutor.execute("updateTaskWithRetry", maxRetries, () -> applyUpdate(id, taskDetails, false));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new RuntimeException("Failed to update task after " + maxRetries + " attempts");
+        }
+    }
+
+    private Task applyUpdate(Long id, Task taskDetails, boolean includePriority) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
 
-        // Update fields
         task.setTitle(taskDetails.getTitle());
         task.setDescription(taskDetails.getDescription());
         task.setStatus(taskDetails.getStatus());
-        task.setPriority(taskDetails.getPriority());
+        if (includePriority) {
+            task.setPriority(taskDetails.getPriority());
+        }
+        return taskRepository.save(task);
+    }
 
-        try {
-            return taskRepository.save(task);
-        } catch (ObjectOptimisticLockingFailureException e) {
-            throw new RuntimeException("Task was updated by another user. Please refresh and try again.");
+    // ========================================
+    // SPECIFICATIONS (DYNAMIC QUERIES)
+    // ========================================
+
+    // Equality filters (status, priority, user, tag) are answered with bitmap
+    // ANDs and the keyword with the inverted text index (see TaskSearchPlanner).
+    // Only what the indexes could not resolve runs as SQL, restricted to the
+    // candidate ids, through the per-shape precompiled JPQL of TaskSearchEngine.
+    @Transactional(readOnly = true)
+    public List<Task> searchTasks(TaskSearchDTO searchDTO) {
+        TaskSearchPlan plan = searchPlanner.plan(searchDTO);
+        if (plan.isEmpty()) {
+            return List.of();
         }
+
+        List<Task> tasks = searchEngine.find(searchDTO, plan);
+        return plan.getRanking() != null ? sortByRanking(tasks, plan.getRanking()) : tasks;
     }
 
-    // Retry logic for optimistic locking failures
-    @Transactional
-    public Task updateTaskWithRetry(Long id, Task taskDetails, int maxRetries) {
-        int attempts = 0;
+    // Projection variant of searchTasks: flat summaries (tag names included)
+    // in two queries total, without hydrating Task entities
+    @Transactional(readOnly = true)
+    public List<TaskSummaryDTO> searchTaskSummaries(TaskSearchDTO searchDTO) {
+        TaskSearchPlan plan = searchPlanner.plan(searchDTO);
+        if (plan.isEmpty()) {
+            return List.of();
+        }
+
+        List<TaskSummaryDTO> summaries = taskRepository.findSummaries(
+                buildResidualSpecification(searchDTO, plan), Sort.unsorted());
+        if (plan.getRanking() == null) {
+            return summaries;
+        }
+        Map<Long, Integer> rank = rankOf(plan.getRanking());
+        List<TaskSummaryDTO> ranked = new ArrayList<>(summaries);
+        ranked.sort(Comparator.comparing(summary -> rank.getOrDefault(summary.getId(), Integer.MAX_VALUE)));
+        return ranked;
+    }
 
-        while (attempts < maxRetries) {
-            try {
-                Task task = taskRepository.findById(id)
-                        .orElseThrow(() -> new RuntimeException("Task not found"));
+    // Sparse-fieldset variant of searchTasks: same plan and ranking, but the
+    // SQL selects only the requested columns
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchTaskFields(TaskSearchDTO searchDTO, List<TaskField> fields) {
+        TaskSearchPlan plan = searchPlanner.plan(searchDTO);
+        if (plan.isEmpty()) {
+            return List.of();
+        }
 
-                task.setTitle(taskDetails.getTitle());
-                task.setDescription(taskDetails.getDescription());
-                task.setStatus(taskDetails.getStatus());
+        List<Map<String, Object>> rows = taskRepository.findFields(
+                buildResidualSpecification(searchDTO, plan), fields, Sort.unsorted());
+        if (plan.getRanking() == null) {
+            return rows;
+        }
+        Map<Long, Integer> rank = rankOf(plan.getRanking());
+        List<Map<String, Object>> ranked = new ArrayList<>(rows);
+        ranked.sort(Comparator.comparing(row -> rank.getOrDefault((Long) row.get("id"), Integer.MAX_VALUE)));
+        return ranked;
+    }
 
-                return taskRepository.save(task);
+    // sortBy goes through the same allow-list as searchTasksWithPagination
+    // (an IllegalArgumentException here, before the repository would turn an
+    // unknown property into a PropertyReferenceException)
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> searchTaskFieldsWithPagination(TaskSearchDTO searchDTO, List<TaskField> fields,
+                                                                   Pageable pageable) {
+        TaskSearchEngine.checkSortable(pageable.getSort());
+        TaskSearchPlan plan = searchPlanner.plan(searchDTO);
+        if (plan.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return taskRepository.findFields(buildResidualSpecification(searchDTO, plan), fields, pageable);
+    }
 
-            } catch (ObjectOptimisticLockingFailureException e) {
-                attempts++;
-                if (attempts >= maxRetries) {
-                    throw new RuntimeException("Failed to update task after " + maxRetries + " attempts");
-                }
-                // Wait a bit before retrying
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                }
+    // Search plus per-facet counts (status, priority, tag, user) over the same
+    // hits. Counts come from the bitmap index (per hit or per facet value,
+    // whichever is fewer); without it they are tallied in a single pass over
+    // the hits.
+    @Transactional(readOnly = true)
+    public TaskSearchResultDTO searchTasksWithFacets(TaskSearchDTO searchDTO) {
+        List<Task> hits = searchTasks(searchDTO);
+
+        Map<String, Map<String, Long>> facets = null;
+        if (hits.stream().allMatch(task -> task.getId() <= Integer.MAX_VALUE)) {
+            RoaringBitmap hitIds = new RoaringBitmap();
+            hits.forEach(task -> hitIds.add(task.getId().intValue()));
+            facets = bitmapIndex.facetCounts(hitIds);
+        }
+        if (facets == null) {
+            facets = countFacets(hits);
+        }
+        return new TaskSearchResultDTO(hits, facets);
+    }
+
+    private static Map<String, Map<String, Long>> countFacets(List<Task> hits) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        Map<String, Long> byPriority = new LinkedHashMap<>();
+        Map<String, Long> byTag = new LinkedHashMap<>();
+        Map<String, Long> byUser = new LinkedHashMap<>();
+
+        for (Task task : hits) {
+            byStatus.merge(task.getStatus().name(), 1L, Long::sum);
+            byPriority.merge(task.getPriority().name(), 1L, Long::sum);
+            byUser.merge(String.valueOf(task.getUser().getId()), 1L, Long::sum);
+            // Tags are serialized with the hits anyway, so loading them here costs nothing extra
+            for (Tag tag : task.getTags()) {
+                byTag.merge(tag.getName(), 1L, Long::sum);
             }
         }
 
-        throw new RuntimeException("Update failed");
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("status", byStatus);
+        facets.put("priority", byPriority);
+        facets.put("tag", byTag);
+        facets.put("user", byUser);
+        return facets;
     }
 
-    // ========================================
-    // SPECIFICATIONS (DYNAMIC QUERIES)
-    // ========================================
+    // Keyset (cursor) pagination: seeks past the last (sortKey, id) instead of
+    // using an OFFSET, and skips the count(*) unless includeTotal is set
+    @Transactional(readOnly = true)
+    public TaskCursorPage searchTasksWithCursor(TaskSearchDTO searchDTO, String cursor, int size,
+                                                String sortBy, Sort.Direction direction, boolean includeTotal) {
+        if (!CURSOR_SORT_KEYS.contains(sortBy)) {
+            throw new IllegalArgumentException("Cursor pagination can only sort by " + CURSOR_SORT_KEYS);
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        Specification<Task> filter = buildSearchSpecification(searchDTO);
+        Specification<Task> spec = filter;
+        if (cursor != null && !cursor.isEmpty()) {
+            spec = spec.and(seekPastCursor(cursor, sortBy, direction));
+        }
+
+        // id is always the last sort key so the order is total
+        Sort sort = sortBy.equals("id")
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+
+        // Fetch one extra row to find out whether there is a next page
+        List<Task> rows = taskRepository.findBy(spec, q -> q.sortBy(sort).limit(pageSize + 1).all());
+        boolean hasNext = rows.size() > pageSize;
+        List<Task> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1), sortBy, direction) : null;
+        Long total = includeTotal ? taskRepository.count(filter) : null;
+        return new TaskCursorPage(content, nextCursor, hasNext, total);
+    }
 
     @Transactional(readOnly = true)
-    public List<Task> searchTasks(TaskSearchDTO searchDTO) {
+    public Page<Task> searchTasksWithPagination(TaskSearchDTO searchDTO, Pageable pageable) {
+        TaskSearchPlan plan = searchPlanner.plan(searchDTO);
+        if (plan.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        // Fully answered by the indexes and ordered by id: page straight off the
+        // bitmap and hydrate just that page, no count(*) and no IN list
+        if (plan.hasCandidates() && !hasResidualPredicates(searchDTO, plan) && isSortedByIdOnly(pageable)) {
+            return pageFromCandidates(plan.getCandidates(), pageable);
+        }
+
+        return searchEngine.findPage(searchDTO, plan, pageable);
+    }
+
+    private Page<Task> pageFromCandidates(RoaringBitmap candidates, Pageable pageable) {
+        int total = candidates.getCardinality();
+        boolean ascending = pageable.getSort().isUnsorted()
+                || pageable.getSort().getOrderFor("id").isAscending();
+
+        List<Long> pageIds = new ArrayList<>(pageable.getPageSize());
+        long from = pageable.getOffset();
+        long to = Math.min(from + pageable.getPageSize(), total);
+        for (long i = from; i < to; i++) {
+            int rank = (int) (ascending ? i : total - 1 - i);
+            pageIds.add((long) candidates.select(rank));
+        }
+
+        List<Task> content = sortByRanking(taskRepository.findAllById(pageIds), pageIds);
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static boolean isSortedByIdOnly(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        return sort.isUnsorted() || (sort.stream().count() == 1 && sort.getOrderFor("id") != null);
+    }
+
+    private static boolean hasResidualPredicates(TaskSearchDTO searchDTO, TaskSearchPlan plan) {
+        boolean hasFilters = searchDTO.getStatus() != null || searchDTO.getPriority() != null
+                || searchDTO.getUserId() != null || searchDTO.getTagName() != null;
+        return (hasFilters && !plan.isFiltersResolved())
+                || (searchDTO.getKeyword() != null && !plan.isKeywordResolved())
+                || searchDTO.getCreatedAfter() != null || searchDTO.getCreatedBefore() != null;
+    }
+
+    // Re-orders loaded tasks to match the given id order
+    private static List<Task> sortByRanking(List<Task> tasks, List<Long> rankedIds) {
+        Map<Long, Integer> rank = rankOf(rankedIds);
+        List<Task> ranked = new ArrayList<>(tasks);
+        ranked.sort(Comparator.comparing(task -> rank.getOrDefault(task.getId(), Integer.MAX_VALUE)));
+        return ranked;
+    }
+
+    private static Map<Long, Integer> rankOf(List<Long> rankedIds) {
+        Map<Long, Integer> rank = new HashMap<>(rankedIds.size() * 2);
+        for (int i = 0; i < rankedIds.size(); i++) {
+            rank.put(rankedIds.get(i), i);
+        }
+        return rank;
+    }
+
+    // Everything the indexes did not answer, plus "id IN (candidates)"
+    private Specification<Task> buildResidualSpecification(TaskSearchDTO searchDTO, TaskSearchPlan plan) {
+        return buildSpecification(searchDTO, !plan.isFiltersResolved(), !plan.isKeywordResolved())
+                .and(TaskSpecification.idIn(plan.getCandidateIds()));
+    }
+
+    private Specification<Task> buildSearchSpecification(TaskSearchDTO searchDTO) {
+        return buildSpecification(searchDTO, true, true);
+    }
+
+    // The date range always runs in SQL; equality filters and the keyword
+    // only when they were not already resolved from an index
+    private Specification<Task> buildSpecification(TaskSearchDTO searchDTO,
+                                                   boolean includeFilters, boolean includeKeyword) {
         Specification<Task> spec = null;
 
-        if (searchDTO.getStatus() != null) {
+        if (includeFilters && searchDTO.getStatus() != null) {
             spec = Specification.where(TaskSpecification.hasStatus(searchDTO.getStatus()));
         }
 
-        if (searchDTO.getPriority() != null) {
+        if (includeFilters && searchDTO.getPriority() != null) {
             spec = (spec == null) ? Specification.where(TaskSpecification.hasPriority(searchDTO.getPriority()))
                     : spec.and(TaskSpecification.hasPriority(searchDTO.getPriority()));
         }
 
-        if (searchDTO.getUserId() != null) {
+        if (includeFilters && searchDTO.getUserId() != null) {
             spec = (spec == null) ? Specification.where(TaskSpecification.belongsToUser(searchDTO.getUserId()))
                     : spec.and(TaskSpecification.belongsToUser(searchDTO.getUserId()));
         }
 
-        if (searchDTO.getKeyword() != null) {
+        if (includeKeyword && searchDTO.getKeyword() != null) {
             Specification<Task> titleSpec = TaskSpecification.titleContains(searchDTO.getKeyword());
             Specification<Task> descSpec = TaskSpecification.descriptionContains(searchDTO.getKeyword());
             Specification<Task> keywordSpec = Specification.where(titleSpec).or(descSpec);
             spec = (spec == null) ? keywordSpec : spec.and(keywordSpec);
         }
 
-        if (searchDTO.getTagName() != null) {
+        if (includeFilters && searchDTO.getTagName() != null) {
             spec = (spec == null) ? Specification.where(TaskSpecification.hasTag(searchDTO.getTagName()))
                     : spec.and(TaskSpecification.hasTag(searchDTO.getTagName()));
         }
@@ -192,51 +544,52 @@ public class TaskService {
                             searchDTO.getCreatedBefore()));
         }
 
-        return taskRepository.findAll(spec != null ? spec : Specification.where((root, query, cb) -> cb.conjunction()));
+        return spec != null ? spec : Specification.where((root, query, cb) -> cb.conjunction());
     }
 
-    @Transactional(readOnly = true)
-    public Page<Task> searchTasksWithPagination(TaskSearchDTO searchDTO, Pageable pageable) {
-        Specification<Task> spec = null;
+    // Cursor tokens are opaque to callers: base64url("sortKey|direction|value|id")
+    private static String encodeCursor(Task last, String sortBy, Sort.Direction direction) {
+        String value = sortBy.equals("createdAt") ? last.getCreatedAt().toString() : "";
+        String raw = sortBy + "|" + direction.name() + "|" + value + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
 
-        if (searchDTO.getStatus() != null) {
-            spec = Specification.where(TaskSpecification.hasStatus(searchDTO.getStatus()));
+    private static Specification<Task> seekPastCursor(String cursor, String sortBy, Sort.Direction direction) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor");
         }
-
-        if (searchDTO.getPriority() != null) {
-            spec = (spec == null) ? Specification.where(TaskSpecification.hasPriority(searchDTO.getPriority()))
-                    : spec.and(TaskSpecification.hasPriority(searchDTO.getPriority()));
+        if (parts.length != 4 || !parts[0].equals(sortBy) || !parts[1].equals(direction.name())) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort order");
         }
-
-        if (searchDTO.getUserId() != null) {
-            spec = (spec == null) ? Specification.where(TaskSpecification.belongsToUser(searchDTO.getUserId()))
-                    : spec.and(TaskSpecification.belongsToUser(searchDTO.getUserId()));
-        }
-
-        if (searchDTO.getKeyword() != null) {
-            Specification<Task> titleSpec = TaskSpecification.titleContains(searchDTO.getKeyword());
-            Specification<Task> descSpec = TaskSpecification.descriptionContains(searchDTO.getKeyword());
-            Specification<Task> keywordSpec = Specification.where(titleSpec).or(descSpec);
-            spec = (spec == null) ? keywordSpec : spec.and(keywordSpec);
+        try {
+            Long lastId = Long.valueOf(parts[3]);
+            if (sortBy.equals("id")) {
+                return TaskSpecification.idAfter(lastId, direction.isAscending());
+            }
+            return TaskSpecification.createdAtAfter(LocalDateTime.parse(parts[2]), lastId, direction.isAscending());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor");
         }
-
-        return taskRepository.findAll(spec != null ? spec : Specification.where((root, query, cb) -> cb.conjunction()),
-                pageable);
     }
 
     // ========================================
     // OTHER OPERATIONS
     // ========================================
 
-    @Transactional
+    // Bumps the task version, so it can conflict with a concurrent update
     public Task addTagToTask(Long taskId, Long tagId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
-        Tag tag = tagRepository.findById(tagId)
-                .orElseThrow(() -> new RuntimeException("Tag not found"));
+        return retryExecutor.execute("addTagToTask", () -> {
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new RuntimeException("Task not found"));
+            Tag tag = tagRepository.findById(tagId)
+                    .orElseThrow(() -> new RuntimeException("Tag not found"));
 
-        task.addTag(tag);
-        return taskRepository.save(task);
+            task.addTag(tag);
+            return taskRepository.save(task);
+        });
     }
 
     @Transactional
@@ -244,9 +597,211 @@ public class TaskService {
         taskRepository.deleteById(id);
     }
 
-    // Batch operation
+    // Batch operation: chunked set-based DELETEs, no entities are loaded.
+    // Each chunk is locked first; only the locked rows are deleted, and the
+    // counters and indexes move by exactly those rows. Lifecycle callbacks
+    // don't run, so the in-memory indexes are told directly and the audit
+    // journal gets the locked rows as read before the DELETE.
+    @Transactional
+    public BatchDeleteResultDTO deleteMultipleTasks(List<Long> taskIds) {
+        List<Long> ids = taskIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        List<Long> deletedIds = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size()));
+            Map<Long, TaskCounterKey> locked = lockedRows(taskRepository.lockCounterRowsByIdIn(chunk));
+            if (locked.isEmpty()) {
+                continue;
+            }
+            List<Long> lockedIds = List.copyOf(locked.keySet());
+            auditImages(lockedIds).values().forEach(before ->
+                    auditJournal.record(AuditEntryDTO.Operation.BULK_DELETE, before, null));
+            taskRepository.deleteTagLinksByTaskIds(lockedIds);
+            checkAffected("deleted", taskRepository.deleteByIdIn(lockedIds), lockedIds.size());
+            counterStore.deleted(locked.values());
+            deletedIds.addAll(lockedIds);
+        }
+        writeDispatcher.deleted(deletedIds);
+        return new BatchDeleteResultDTO(ids.size(), deletedIds.size());
+    }
+
+    // Set-based status change in keyset chunks of DELETE_CHUNK_SIZE. Each
+    // chunk is locked first and the UPDATE is restricted to the locked ids,
+    // so the counters move by exactly the rows that changed; the indexes get
+    // fresh snapshots of them.
+    @Transactional
+    public int bulkUpdateStatus(TaskStatus oldStatus, TaskStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return 0;
+        }
+        int updated = 0;
+        long afterId = Long.MIN_VALUE;
+        LocalDateTime now = LocalDateTime.now();
+        String auditor = currentAuditor();
+        while (true) {
+            Map<Long, TaskCounterKey> locked = lockedRows(
+                    taskRepository.lockCounterRowsByStatus(oldStatus.getCode(), afterId, DELETE_CHUNK_SIZE));
+            if (locked.isEmpty()) {
+                break;
+            }
+            List<Long> lockedIds = List.copyOf(locked.keySet());
+            Map<Long, TaskSnapshot> before = auditImages(lockedIds);
+            checkAffected("updated", taskRepository.bulkUpdateStatus(oldStatus, newStatus, now, auditor, lockedIds),
+                    lockedIds.size());
+            counterStore.statusChanged(locked.values(), newStatus);
+            dispatchSnapshots(lockedIds, before);
+            updated += lockedIds.size();
+            if (lockedIds.size() < DELETE_CHUNK_SIZE) {
+                break;
+            }
+            afterId = lockedIds.get(lockedIds.size() - 1);
+        }
+        return updated;
+    }
+
+    // Batch of (id, expectedVersion, newStatus) transitions as one JDBC batch
+    // of conditional UPDATEs; no entities are loaded. Each item either
+    // moves and bumps its version, or is reported as a conflict/not found.
+    //
+    // The current (user, status, priority, version) of the targeted rows is
+    // read first. Items whose version already differs are conflicts without
+    // a statement; for the rest, a successful UPDATE proves the row still had
+    // the version that was read (every write path bumps it), so the status
+    // read is the one that was replaced and the counters can move by it.
+    @Transactional
+    public List<StatusTransitionResultDTO> transitionStatuses(List<StatusTransitionDTO> transitions) {
+        for (StatusTransitionDTO transition : transitions) {
+            if (transition == null || transition.getId() == null
+                    || transition.getExpectedVersion() == null || transition.getNewStatus() == null) {
+                throw new IllegalArgumentException("Each transition needs id, expectedVersion and newStatus");
+            }
+        }
+
+        Map<Long, Object[]> states = new HashMap<>();
+        List<Long> ids = transitions.stream().map(StatusTransitionDTO::getId).distinct().toList();
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size()));
+            for (Object[] state : taskRepository.findTransitionStatesByIdIn(chunk)) {
+                states.put((Long) state[0], state);
+            }
+        }
+
+        StatusTransitionResultDTO[] results = new StatusTransitionResultDTO[transitions.size()];
+        List<Integer> candidates = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String auditor = currentAuditor();
+        for (int i = 0; i < transitions.size(); i++) {
+            StatusTransitionDTO transition = transitions.get(i);
+            Object[] state = states.get(transition.getId());
+            if (state == null) {
+                results[i] = new StatusTransitionResultDTO(transition.getId(),
+                        StatusTransitionResultDTO.Outcome.NOT_FOUND, null);
+            } else if (!transition.getExpectedVersion().equals(state[4])) {
+                results[i] = new StatusTransitionResultDTO(transition.getId(),
+                        StatusTransitionResultDTO.Outcome.CONFLICT, null);
+            } else {
+                candidates.add(i);
+                rows.add(new Object[]{transition.getNewStatus().getCode(), now, auditor,
+                        transition.getId(), transition.getExpectedVersion()});
+            }
+        }
+
+        // A successful UPDATE matched the expected version, so the image read
+        // here (at that version) is exactly what it replaced
+        Map<Long, TaskSnapshot> before = auditImages(rows.stream().map(row -> (Long) row[3]).distinct().toList());
+
+        List<Long> updatedIds = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += bulkChunkSize) {
+            int to = Math.min(from + bulkChunkSize, rows.size());
+            int[] counts = jdbcTemplate.batchUpdate(TRANSITION_STATUS, rows.subList(from, to));
+            for (int j = 0; j < counts.length; j++) {
+                int i = candidates.get(from + j);
+                StatusTransitionDTO transition = transitions.get(i);
+                if (counts[j] == 1) {
+                    Object[] state = states.get(transition.getId());
+                    counterStore.statusChanged((Long) state[1], (TaskPriority) state[3],
+                            (TaskStatus) state[2], transition.getNewStatus());
+                    updatedIds.add(transition.getId());
+                    results[i] = new StatusTransitionResultDTO(transition.getId(),
+                            StatusTransitionResultDTO.Outcome.UPDATED, transition.getExpectedVersion() + 1);
+                } else {
+                    results[i] = new StatusTransitionResultDTO(transition.getId(),
+                            StatusTransitionResultDTO.Outcome.CONFLICT, null);
+                }
+            }
+        }
+
+        dispatchSnapshots(updatedIds.stream().distinct().toList(), before);
+        return List.of(results);
+    }
+
+    // Set-based updates skip the entity callbacks, so the indexes get fresh
+    // snapshots, and the audit journal gets them as after images
+    private void dispatchSnapshots(List<Long> ids, Map<Long, TaskSnapshot> auditBefore) {
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size()));
+            for (TaskSnapshot snapshot : taskRepository.findSnapshotsByIdIn(chunk)) {
+                writeDispatcher.written(snapshot);
+                if (auditJournal.isEnabled()) {
+                    auditJournal.record(AuditEntryDTO.Operation.BULK_UPDATE, auditBefore.get(snapshot.getId()), snapshot);
+                }
+            }
+        }
+    }
+
+    // Before images for a set-based statement; not read at all with the journal off
+    private Map<Long, TaskSnapshot> auditImages(List<Long> ids) {
+        if (!auditJournal.isEnabled()) {
+            return Map.of();
+        }
+        Map<Long, TaskSnapshot> images = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size()));
+            for (TaskSnapshot snapshot : taskRepository.findSnapshotsByIdIn(chunk)) {
+                images.put(snapshot.getId(), snapshot);
+            }
+        }
+        return images;
+    }
+
+    private String currentAuditor() {
+        return auditorProvider.getCurrentAuditor().orElse(null);
+    }
+
+    // Rows of (id, user_id, status, priority) from the lock queries, in id order
+    private static Map<Long, TaskCounterKey> lockedRows(List<Object[]> rows) {
+        Map<Long, TaskCounterKey> locked = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            Long userId = row[1] != null ? ((Number) row[1]).longValue() : null;
+            TaskStatus status = row[2] != null ? TaskStatus.fromCode(((Number) row[2]).shortValue()) : null;
+            TaskPriority priority = row[3] != null ? TaskPriority.fromCode(((Number) row[3]).shortValue()) : null;
+            locked.put(((Number) row[0]).longValue(), new TaskCounterKey(userId, status, priority));
+        }
+        return locked;
+    }
+
+    // The rows are locked, so anything but a full match means the counters
+    // and indexes would no longer describe the table: roll back instead
+    private static void checkAffected(String action, int affected, int locked) {
+        if (affected != locked) {
+            throw new IllegalStateException("Expected " + locked + " locked tasks to be " + action
+                    + " but " + affected + " were");
+        }
+    }
+
+    // Goes through deleteMultipleTasks so tag links, counters and indexes
+    // are handled the same way as any other batch delete
     @Transactional
-    public void deleteMultipleTasks(List<Long> taskIds) {
-        taskIds.forEach(id -> taskRepository.deleteById(id));
+    public BatchDeleteResultDTO deleteOldTasksByStatus(TaskStatus status, LocalDateTime before) {
+        return deleteMultipleTasks(taskRepository.findIdsByStatusCreatedBefore(status, before));
+    }
+
+    // O(1) dashboard counts from TaskCounterStore (no aggregate query)
+    public TaskCountsDTO getTaskCounts(Long userId) {
+        return counterStore.getCounts(userId);
     }
-}
\ No newline at end of file
+}
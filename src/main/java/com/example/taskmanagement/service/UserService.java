@@ -5,6 +5,7 @@ import com.example.taskmanagement.entity.User;
 import com.example.taskmanagement.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +37,9 @@ public class UserService {
         return userRepository.findByUsername(username);
     }
     
+    // Users are in the second-level cache (READ_WRITE): the cached entry is
+    // replaced / evicted when these transactions commit
+    @Transactional
     public User updateUser(Long id, User userDetails) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -46,6 +50,7 @@ public class UserService {
         return userRepository.save(user);
     }
     
+    @Transactional
     public void deleteUser(Long id) {
         userRepository.deleteById(id);
     }
@@ -2,20 +2,24 @@ package com.example.taskmanagement.specification;
 
 
 import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskStatus;
+import jakarta.persistence.criteria.Path;
 import org.springframework.data.jpa.domain.Specification;
 import java.time.LocalDateTime;
+import java.util.Collection;
 
 
 public class TaskSpecification {
     
     // Specification for status
-    public static Specification<Task> hasStatus(String status) {
+    public static Specification<Task> hasStatus(TaskStatus status) {
         return (root, query, cb) -> 
             status == null ? null : cb.equal(root.get("status"), status);
     }
     
     // Specification for priority
-    public static Specification<Task> hasPriority(String priority) {
+    public static Specification<Task> hasPriority(TaskPriority priority) {
         return (root, query, cb) -> 
             priority == null ? null : cb.equal(root.get("priority"), priority);
     }
@@ -57,4 +61,35 @@ public class TaskSpecification {
             return cb.equal(root.join("tags").get("name"), tagName);
         };
     }
+    
+    // Specification for a precomputed candidate set (e.g. from an in-memory index)
+    public static Specification<Task> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> 
+            ids == null ? null : root.get("id").in(ids);
+    }
+    
+    // Keyset (seek) on id: rows strictly after the last id seen
+    public static Specification<Task> idAfter(Long lastId, boolean ascending) {
+        return (root, query, cb) -> {
+            if (lastId == null) return null;
+            Path<Long> id = root.get("id");
+            return ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+        };
+    }
+    
+    // Keyset (seek) on (createdAt, id): rows strictly after the last row seen.
+    // id breaks ties between tasks created in the same instant.
+    public static Specification<Task> createdAtAfter(LocalDateTime lastCreatedAt, Long lastId, boolean ascending) {
+        return (root, query, cb) -> {
+            if (lastCreatedAt == null || lastId == null) return null;
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<Long> id = root.get("id");
+            if (ascending) {
+                return cb.or(cb.greaterThan(createdAt, lastCreatedAt),
+                        cb.and(cb.equal(createdAt, lastCreatedAt), cb.greaterThan(id, lastId)));
+            }
+            return cb.or(cb.lessThan(createdAt, lastCreatedAt),
+                    cb.and(cb.equal(createdAt, lastCreatedAt), cb.lessThan(id, lastId)));
+        };
+    }
 }
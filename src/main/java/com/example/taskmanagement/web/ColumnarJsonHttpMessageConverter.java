@@ -0,0 +1,122 @@
+package com.example.taskmanagement.web;
+
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Writes a list of objects as "array of arrays" JSON: the property names once,
+// then one positional array per element.
+//
+//   {"columns":["id","title",...],"rows":[[1,"Report",...],[2,"Deploy",...]]}
+//
+// Selected with Accept: application/vnd.columnar+json on any endpoint that
+// returns a collection. Elements go through the application's ObjectMapper
+// first, so annotations (@JsonIgnore, back references, enum values) apply
+// exactly as in plain JSON; nested values (e.g. a task's tags) stay nested.
+// Columns are the union of property names in first-seen order, with null
+// where an element lacks one.
+public class ColumnarJsonHttpMessageConverter extends AbstractHttpMessageConverter<Collection<?>> {
+
+    public static final MediaType COLUMNAR_JSON = MediaType.parseMediaType("application/vnd.columnar+json");
+
+    private final ObjectMapper objectMapper;
+
+    public ColumnarJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(COLUMNAR_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Collection.class.isAssignableFrom(clazz);
+    }
+
+    // Not advertised as producible. It sits in front of the JSON converter
+    // (custom converters come first), so advertising it would make it win
+    // for */* and browser Accept headers. Asked for by name it is still
+    // selected: it matches the application/*+json the JSON converter
+    // produces, and this converter is the first one offered the write.
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return List.of();
+    }
+
+    // Output only
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Collection<?> readInternal(Class<? extends Collection<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar JSON is an output format only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Collection<?> values, HttpOutputMessage outputMessage) throws IOException {
+        write(values, outputMessage.getBody());
+    }
+
+    public void write(Collection<?> values, OutputStream out) {
+        List<JsonNode> rows = new ArrayList<>(values.size());
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        for (Object value : values) {
+            JsonNode node = objectMapper.valueToTree(value);
+            rows.add(node);
+            if (node.isObject()) {
+                for (String name : node.propertyNames()) {
+                    columns.putIfAbsent(name, columns.size());
+                }
+            }
+        }
+
+        // The caller owns the stream (e.g. the servlet response)
+        try (JsonGenerator generator = objectMapper.writer()
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeName("columns");
+            generator.writeStartArray();
+            for (String column : columns.keySet()) {
+                generator.writeString(column);
+            }
+            generator.writeEndArray();
+
+            generator.writeName("rows");
+            generator.writeStartArray();
+            for (JsonNode row : rows) {
+                if (!row.isObject()) {
+                    // Scalars (e.g. a list of ids) pass through as they are
+                    generator.writeTree(row);
+                    continue;
+                }
+                generator.writeStartArray();
+                for (String column : columns.keySet()) {
+                    JsonNode cell = row.get(column);
+                    if (cell == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeTree(cell);
+                    }
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.taskmanagement.archive;
+
+import com.example.taskmanagement.entity.ArchivedTaskDTO;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArchiveSegmentTests {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 9, 30, 0, 123_456_789);
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void reopenedSegmentFindsEveryTaskById() throws IOException {
+		Path path = dir.resolve("segment-1.seg");
+		List<ArchivedTaskDTO> tasks = tasks(25);
+		ArchiveSegment.write(path, 1, tasks, 4);
+
+		ArchiveSegment segment = ArchiveSegment.open(path, 1);
+		assertThat(segment.getRecords()).isEqualTo(25);
+		assertThat(segment.getBlockCount()).isEqualTo(7);
+		assertThat(Files.exists(path.resolveSibling("segment-1.seg.tmp"))).isFalse();
+
+		for (ArchivedTaskDTO expected : tasks) {
+			ArchivedTaskDTO actual = segment.findById(expected.getId());
+			assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+		}
+		// Below, between and above the stored ids
+		assertThat(segment.findById(5)).isNull();
+		assertThat(segment.findById(15)).isNull();
+		assertThat(segment.findById(1_000)).isNull();
+	}
+
+	@Test
+	void scanReturnsTheCreatedAtWindowInIdOrder() throws IOException {
+		List<ArchivedTaskDTO> tasks = tasks(25);
+		ArchiveSegment segment = ArchiveSegment.write(dir.resolve("segment-1.seg"), 1, tasks, 4);
+
+		long from = ArchiveSegment.epochMillis(BASE.plusMinutes(5));
+		long to = ArchiveSegment.epochMillis(BASE.plusMinutes(10));
+		List<Long> expected = tasks.stream()
+				.filter(task -> {
+					long created = ArchiveSegment.epochMillis(task.getCreatedAt());
+					return created >= from && created < to;
+				})
+				.map(ArchivedTaskDTO::getId)
+				.toList();
+
+		assertThat(expected).hasSize(5);
+		assertThat(scan(segment, from, to, Integer.MAX_VALUE)).isEqualTo(expected);
+		assertThat(scan(segment, from, to, 2)).isEqualTo(expected.subList(0, 2));
+		assertThat(scan(segment, to + 60 * 60_000, Long.MAX_VALUE, Integer.MAX_VALUE)).isEmpty();
+	}
+
+	@Test
+	void foreignFileIsRejected() throws IOException {
+		Path path = dir.resolve("segment-2.seg");
+		Files.write(path, new byte[64]);
+		assertThatThrownBy(() -> ArchiveSegment.open(path, 2)).isInstanceOf(IOException.class);
+	}
+
+	private static List<Long> scan(ArchiveSegment segment, long from, long to, int limit) {
+		List<Long> ids = new ArrayList<>();
+		segment.scanCreated(from, to, task -> {
+			ids.add(task.getId());
+			return ids.size() < limit;
+		});
+		return ids;
+	}
+
+	// Ids 10, 20, ... with created_at minutes shuffled, so blocks overlap in time
+	private static List<ArchivedTaskDTO> tasks(int count) {
+		List<ArchivedTaskDTO> tasks = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			LocalDateTime createdAt = BASE.plusMinutes((i * 7L) % count);
+			tasks.add(new ArchivedTaskDTO(10L * (i + 1), "archived " + i, i % 2 == 0 ? null : "details " + i,
+					TaskStatus.DONE, TaskPriority.values()[i % TaskPriority.values().length], i % 3 == 0 ? null : 42L,
+					(long) i, createdAt, createdAt.plusDays(1), "alice", null, i % 4 == 0 ? List.of() : List.of("ops", "q" + i)));
+		}
+		return tasks;
+	}
+}
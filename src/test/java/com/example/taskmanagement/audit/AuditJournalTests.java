@@ -0,0 +1,120 @@
+package com.example.taskmanagement.audit;
+
+import com.example.taskmanagement.entity.AuditEntryDTO;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AuditJournalTests {
+
+	@Autowired
+	private AuditJournal auditJournal;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private Long userId;
+
+	// The journal directory outlives the in-memory database, so task ids of
+	// earlier runs recur: only records written during this test count
+	private LocalDateTime since;
+
+	@BeforeEach
+	void setUp() {
+		since = LocalDateTime.now();
+		User user = new User();
+		user.setUsername("audit-" + System.nanoTime());
+		user.setEmail("audit@example.com");
+		userId = userRepository.save(user).getId();
+	}
+
+	// Set-based paths journal the locked rows with before and after images
+	@Test
+	void bulkPathsRecordBeforeAndAfterImages() {
+		Long id = create("bulk", TaskStatus.IN_PROGRESS).getId();
+		taskService.bulkUpdateStatus(TaskStatus.IN_PROGRESS, TaskStatus.DONE);
+		taskService.deleteMultipleTasks(List.of(id));
+
+		List<AuditEntryDTO> history = awaitHistory(id, 3);
+		assertThat(history).extracting(AuditEntryDTO::getOperation).containsExactly(
+				AuditEntryDTO.Operation.CREATE,
+				AuditEntryDTO.Operation.BULK_UPDATE,
+				AuditEntryDTO.Operation.BULK_DELETE);
+		assertThat(history.get(1).getBefore().getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+		assertThat(history.get(1).getAfter().getStatus()).isEqualTo(TaskStatus.DONE);
+		assertThat(history.get(2).getBefore().getStatus()).isEqualTo(TaskStatus.DONE);
+		assertThat(history.get(2).getAfter()).isNull();
+	}
+
+	// REQUIRES_NEW: the inner transaction is journaled on its own commit,
+	// the rolled-back outer one not at all
+	@Test
+	void innerTransactionIsJournaledOnItsOwnCommit() {
+		TransactionTemplate outer = new TransactionTemplate(transactionManager);
+		TransactionTemplate inner = new TransactionTemplate(transactionManager);
+		inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		Long[] ids = new Long[2];
+
+		outer.executeWithoutResult(status -> {
+			ids[0] = create("outer", TaskStatus.TODO).getId();
+			taskRepository.flush();
+			ids[1] = inner.execute(nested -> create("inner", TaskStatus.TODO).getId());
+			status.setRollbackOnly();
+		});
+
+		assertThat(awaitHistory(ids[1], 1)).extracting(AuditEntryDTO::getOperation)
+				.containsExactly(AuditEntryDTO.Operation.CREATE);
+		// Records are written in commit order: once a later commit is in, the
+		// outer one would have been too
+		awaitHistory(create("marker", TaskStatus.TODO).getId(), 1);
+		assertThat(auditJournal.findByTaskId(ids[0], since, null, 10)).isEmpty();
+	}
+
+	private Task create(String title, TaskStatus status) {
+		Task task = new Task();
+		task.setTitle(title);
+		task.setStatus(status);
+		return taskService.createTask(userId, task);
+	}
+
+	// The writer thread appends after commit; poll until the records are in
+	private List<AuditEntryDTO> awaitHistory(Long taskId, int records) {
+		long deadline = System.currentTimeMillis() + 5_000;
+		List<AuditEntryDTO> history = auditJournal.findByTaskId(taskId, since, null, 100);
+		while (history.size() < records && System.currentTimeMillis() < deadline) {
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+			history = auditJournal.findByTaskId(taskId, since, null, 100);
+		}
+		assertThat(history).as("audit history of task %d", taskId).hasSize(records);
+		return history;
+	}
+}
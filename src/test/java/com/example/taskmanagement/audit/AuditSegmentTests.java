@@ -0,0 +1,115 @@
+package com.example.taskmanagement.audit;
+
+import com.example.taskmanagement.entity.AuditEntryDTO;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskSnapshot;
+import com.example.taskmanagement.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditSegmentTests {
+
+	private static final int SIZE = 64 * 1024;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void reopenedSegmentKeepsItsRecords() throws IOException {
+		Path path = dir.resolve("journal-1.log");
+		AuditSegment segment = AuditSegment.create(path, 1, 100, SIZE);
+		TaskSnapshot before = snapshot(7L, "before", TaskStatus.TODO, 1L);
+		TaskSnapshot after = snapshot(7L, "after", TaskStatus.DONE, 2L);
+		segment.append(100, 1_000, AuditEntryDTO.Operation.UPDATE, 7,
+				AuditSegment.encodePayload("alice", before, after));
+		segment.append(101, 1_001, AuditEntryDTO.Operation.DELETE, 8,
+				AuditSegment.encodePayload(null, snapshot(8L, "gone", TaskStatus.TODO, 1L), null));
+		segment.publish();
+		segment.force();
+
+		AuditSegment reopened = AuditSegment.open(path, 1);
+		assertThat(reopened.getRecords()).isEqualTo(2);
+		assertThat(reopened.getLastLsn()).isEqualTo(101);
+
+		List<AuditEntryDTO> entries = scan(reopened, 7L);
+		assertThat(entries).hasSize(1);
+		AuditEntryDTO entry = entries.get(0);
+		assertThat(entry.getLsn()).isEqualTo(100);
+		assertThat(entry.getOperation()).isEqualTo(AuditEntryDTO.Operation.UPDATE);
+		assertThat(entry.getActor()).isEqualTo("alice");
+		assertThat(entry.getBefore().getTitle()).isEqualTo("before");
+		assertThat(entry.getAfter().getStatus()).isEqualTo(TaskStatus.DONE);
+		assertThat(entry.getAfter().getTagNames()).containsExactly("ops");
+		assertThat(scan(reopened, 9L)).isEmpty();
+	}
+
+	@Test
+	void tornTailIsCutOffAndOverwritten() throws IOException {
+		Path path = dir.resolve("journal-1.log");
+		AuditSegment segment = AuditSegment.create(path, 1, 0, SIZE);
+		for (long lsn = 0; lsn < 3; lsn++) {
+			segment.append(lsn, 1_000 + lsn, AuditEntryDTO.Operation.CREATE, lsn,
+					AuditSegment.encodePayload(null, null, snapshot(lsn, "task " + lsn, TaskStatus.TODO, 0L)));
+		}
+		segment.publish();
+		segment.force();
+		int end = segment.getPublishedBytes();
+
+		// A crash halfway through the last record: its length made it to disk,
+		// the tail of its body did not
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[16]), end - 16);
+		}
+
+		AuditSegment recovered = AuditSegment.open(path, 1);
+		assertThat(recovered.getRecords()).isEqualTo(2);
+		assertThat(recovered.getLastLsn()).isEqualTo(1);
+		assertThat(scan(recovered, null)).extracting(AuditEntryDTO::getLsn).containsExactly(0L, 1L);
+
+		// The next append goes where the torn record was
+		recovered.append(2, 2_000, AuditEntryDTO.Operation.CREATE, 2,
+				AuditSegment.encodePayload(null, null, snapshot(2L, "again", TaskStatus.TODO, 0L)));
+		recovered.publish();
+		recovered.force();
+
+		AuditSegment reopened = AuditSegment.open(path, 1);
+		assertThat(scan(reopened, null)).extracting(AuditEntryDTO::getLsn).containsExactly(0L, 1L, 2L);
+		assertThat(scan(reopened, 2L).get(0).getAfter().getTitle()).isEqualTo("again");
+	}
+
+	@Test
+	void scanHonoursTheTimeWindow() throws IOException {
+		AuditSegment segment = AuditSegment.create(dir.resolve("journal-1.log"), 1, 0, SIZE);
+		for (long lsn = 0; lsn < 5; lsn++) {
+			segment.append(lsn, 1_000 + lsn * 10, AuditEntryDTO.Operation.CREATE, lsn,
+					AuditSegment.encodePayload(null, null, snapshot(lsn, "t", TaskStatus.TODO, 0L)));
+		}
+		segment.publish();
+
+		List<AuditEntryDTO> entries = new ArrayList<>();
+		segment.scan(null, 1_010, 1_030, entries::add);
+		assertThat(entries).extracting(AuditEntryDTO::getLsn).containsExactly(1L, 2L);
+	}
+
+	private static List<AuditEntryDTO> scan(AuditSegment segment, Long taskId) {
+		List<AuditEntryDTO> entries = new ArrayList<>();
+		segment.scan(taskId, Long.MIN_VALUE, Long.MAX_VALUE, entries::add);
+		return entries;
+	}
+
+	private static TaskSnapshot snapshot(Long id, String title, TaskStatus status, Long version) {
+		LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+		return new TaskSnapshot(id, title, null, status, TaskPriority.HIGH, 3L, version, now, now, Set.of("ops"));
+	}
+}
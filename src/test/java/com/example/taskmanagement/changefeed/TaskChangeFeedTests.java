@@ -0,0 +1,109 @@
+package com.example.taskmanagement.changefeed;
+
+import com.example.taskmanagement.entity.TaskChangeDTO;
+import com.example.taskmanagement.entity.TaskChangePageDTO;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskSnapshot;
+import com.example.taskmanagement.entity.TaskStatus;
+import com.example.taskmanagement.event.TaskWriteDispatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Writes are dispatched outside a transaction here, so they reach the feed
+// directly and in call order, the way late afterCommit callbacks would
+@SpringBootTest
+class TaskChangeFeedTests {
+
+	// Ids that no real task has; fresh per test, since deleted ids stay deleted
+	private static final AtomicLong NEXT_ID = new AtomicLong(2_000_000_000L);
+
+	private final long task = NEXT_ID.incrementAndGet();
+	private final long other = NEXT_ID.incrementAndGet();
+
+	@Autowired
+	private TaskChangeFeed changeFeed;
+
+	@Autowired
+	private TaskWriteDispatcher writeDispatcher;
+
+	@AfterEach
+	void tearDown() {
+		writeDispatcher.deleted(List.of(task, other));
+	}
+
+	@Test
+	void olderVersionArrivingLateIsDropped() {
+		String cursor = changeFeed.currentCursor();
+		long stale = writeDispatcher.getStaleWrites();
+
+		writeDispatcher.written(snapshot(task, 3L));
+		writeDispatcher.written(snapshot(task, 2L));
+		writeDispatcher.written(snapshot(other, 1L));
+		writeDispatcher.written(snapshot(task, 4L));
+
+		List<TaskChangeDTO> changes = changeFeed.readSince(cursor, 100).orElseThrow().getChanges();
+		assertThat(changes).extracting(change -> change.getTaskId() + "@" + change.getTask().getVersion())
+				.containsExactly(task + "@3", other + "@1", task + "@4");
+		assertThat(writeDispatcher.getStaleWrites()).isEqualTo(stale + 1);
+	}
+
+	@Test
+	void writeArrivingAfterTheDeleteIsDropped() {
+		String cursor = changeFeed.currentCursor();
+
+		writeDispatcher.written(snapshot(task, 1L));
+		writeDispatcher.deleted(task);
+		writeDispatcher.written(snapshot(task, 2L));
+
+		List<TaskChangeDTO> changes = changeFeed.readSince(cursor, 100).orElseThrow().getChanges();
+		assertThat(changes).extracting(TaskChangeDTO::getType)
+				.containsExactly(TaskChangeDTO.Type.UPSERT, TaskChangeDTO.Type.DELETE);
+	}
+
+	@Test
+	void cursorsPageThroughTheFeed() {
+		String cursor = changeFeed.currentCursor();
+		for (long version = 1; version <= 5; version++) {
+			writeDispatcher.written(snapshot(task, version));
+		}
+
+		List<Long> versions = new ArrayList<>();
+		TaskChangePageDTO page;
+		do {
+			page = changeFeed.readSince(cursor, 2).orElseThrow();
+			page.getChanges().forEach(change -> versions.add(change.getTask().getVersion()));
+			cursor = page.getNextCursor();
+		} while (page.isHasMore());
+
+		assertThat(versions).containsExactly(1L, 2L, 3L, 4L, 5L);
+		assertThat(cursor).isEqualTo(changeFeed.currentCursor());
+		assertThat(changeFeed.readSince(cursor, 10).orElseThrow().getChanges()).isEmpty();
+	}
+
+	@Test
+	void foreignOrMalformedCursors() {
+		String cursor = changeFeed.currentCursor();
+		String otherEpoch = TaskChangeFeed.cursor(1, 0);
+
+		assertThat(changeFeed.readSince(otherEpoch, 10)).isEmpty();
+		assertThatThrownBy(() -> changeFeed.readSince("nonsense", 10)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> changeFeed.readSince(TaskChangeFeed.withSequence(cursor, Long.MAX_VALUE), 10))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static TaskSnapshot snapshot(long id, Long version) {
+		LocalDateTime now = LocalDateTime.now();
+		return new TaskSnapshot(id, "feed " + version, null, TaskStatus.TODO, TaskPriority.LOW,
+				null, version, now, now, Set.of());
+	}
+}
@@ -0,0 +1,62 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.jdbc.AdmissionControlDataSource;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Virtual-thread mode in a context of its own, on a private database and
+// without the JVM-wide second-level cache regions
+@SpringBootTest(properties = {
+		"spring.threads.virtual.enabled=true",
+		"spring.datasource.url=jdbc:h2:mem:virtual-threads",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+		"spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class ThreadingConfigTests {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void virtualThreadsPutTheDataSourceBehindAdmissionControl() throws Exception {
+		assertThat(dataSource).isInstanceOf(AdmissionControlDataSource.class);
+
+		User user = new User();
+		user.setUsername("virtual-" + System.nanoTime());
+		user.setEmail("virtual@example.com");
+		Task task = new Task();
+		task.setTitle("admitted");
+		assertThat(taskService.createTask(userRepository.save(user).getId(), task).getId()).isNotNull();
+
+		MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		mockMvc.perform(get("/api/jdbc/admission"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.virtualThreads").value(true))
+				.andExpect(jsonPath("$.enabled").value(true))
+				.andExpect(jsonPath("$.maxConcurrent").value(10))
+				.andExpect(jsonPath("$.inUse").value(0));
+	}
+}
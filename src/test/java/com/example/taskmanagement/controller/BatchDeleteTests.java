@@ -0,0 +1,108 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.entity.Tag;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TagRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class BatchDeleteTests {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TagRepository tagRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private MockMvc mockMvc;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		User user = new User();
+		user.setUsername("batch-delete-" + System.nanoTime());
+		user.setEmail("batch@example.com");
+		userId = userRepository.save(user).getId();
+	}
+
+	@Test
+	void deletesDistinctExistingIdsWithoutLoadingThem() throws Exception {
+		Tag tag = new Tag();
+		tag.setName("batch-delete-" + System.nanoTime());
+		tag = tagRepository.save(tag);
+		Long plain = create("plain");
+		Long tagged = create("tagged");
+		Long kept = create("kept");
+		taskService.addTagToTask(tagged, tag.getId());
+		taskService.addTagToTask(kept, tag.getId());
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		long loads = statistics.getEntityLoadCount();
+
+		mockMvc.perform(delete("/api/tasks/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("[" + plain + ", " + tagged + ", " + plain + ", null, " + Long.MAX_VALUE + "]"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.requested").value(3))
+				.andExpect(jsonPath("$.deleted").value(2));
+
+		assertThat(statistics.getEntityLoadCount()).isEqualTo(loads);
+		assertThat(count("SELECT COUNT(*) FROM tasks WHERE id IN (?, ?)", plain, tagged)).isZero();
+		assertThat(count("SELECT COUNT(*) FROM task_tags WHERE task_id = ?", tagged)).isZero();
+		assertThat(count("SELECT COUNT(*) FROM task_tags WHERE task_id = ?", kept)).isEqualTo(1);
+		assertThat(taskService.getTaskById(kept)).isPresent();
+		assertThat(tagRepository.findById(tag.getId())).isPresent();
+	}
+
+	@Test
+	void emptyBatchDeletesNothing() throws Exception {
+		mockMvc.perform(delete("/api/tasks/batch").contentType(MediaType.APPLICATION_JSON).content("[]"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.requested").value(0))
+				.andExpect(jsonPath("$.deleted").value(0));
+	}
+
+	private Long create(String title) {
+		Task task = new Task();
+		task.setTitle(title);
+		return taskService.createTask(userId, task).getId();
+	}
+
+	private long count(String sql, Object... args) {
+		return jdbcTemplate.queryForObject(sql, Long.class, args);
+	}
+}
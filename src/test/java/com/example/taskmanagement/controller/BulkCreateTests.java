@@ -0,0 +1,91 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class BulkCreateTests {
+
+	private static final int TASKS = 250;
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private MockMvc mockMvc;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		User user = new User();
+		user.setUsername("bulk-" + System.nanoTime());
+		user.setEmail("bulk@example.com");
+		userId = userRepository.save(user).getId();
+	}
+
+	@Test
+	void createsEveryTaskInBatches() throws Exception {
+		List<Map<String, Object>> tasks = new ArrayList<>();
+		for (int i = 0; i < TASKS; i++) {
+			tasks.add(Map.of("title", "bulk " + i, "description", "imported"));
+		}
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		long statements = statistics.getPrepareStatementCount();
+
+		String body = mockMvc.perform(post("/api/tasks/user/" + userId + "/bulk")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(tasks)))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+
+		// One INSERT statement per batch of 100, not one per task
+		assertThat(statistics.getPrepareStatementCount() - statements).isLessThan(20);
+
+		JsonNode result = objectMapper.readTree(body);
+		assertThat(result.get("created").asInt()).isEqualTo(TASKS);
+		Set<Long> ids = new HashSet<>();
+		result.get("ids").forEach(id -> ids.add(id.asLong()));
+		assertThat(ids).hasSize(TASKS);
+
+		assertThat(taskRepository.countByUserId(userId)).isEqualTo(TASKS);
+		assertThat(taskRepository.findAllById(ids))
+				.allSatisfy(task -> assertThat(task.getDescription()).isEqualTo("imported"));
+	}
+}
@@ -0,0 +1,61 @@
+package com.example.taskmanagement.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// sortBy is checked against the same allow-list with and without fields=
+@SpringBootTest
+class PaginatedSearchTests {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+	}
+
+	@Test
+	void unknownSortPropertyIsBadRequest() throws Exception {
+		mockMvc.perform(post("/api/tasks/search/paginated")
+						.param("sortBy", "user.password")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{}"))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string(startsWith("Error: Cannot sort by user.password")));
+	}
+
+	@Test
+	void unknownSortPropertyWithFieldsIsBadRequest() throws Exception {
+		mockMvc.perform(post("/api/tasks/search/paginated")
+						.param("sortBy", "nope")
+						.param("fields", "id,title")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{}"))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string(startsWith("Error: Cannot sort by nope")));
+	}
+
+	@Test
+	void allowedSortPropertyWithFields() throws Exception {
+		mockMvc.perform(post("/api/tasks/search/paginated")
+						.param("sortBy", "priority")
+						.param("fields", "id,title")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{}"))
+				.andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,106 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class StatusTransitionTests {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private MockMvc mockMvc;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		User user = new User();
+		user.setUsername("transition-" + System.nanoTime());
+		user.setEmail("transition@example.com");
+		userId = userRepository.save(user).getId();
+	}
+
+	@Test
+	void eachItemIsCheckedAgainstItsVersion() throws Exception {
+		Task task = create();
+		long version = task.getVersion();
+		String move = "[{\"id\": " + task.getId() + ", \"expectedVersion\": " + version + ", \"newStatus\": \"DONE\"}]";
+
+		mockMvc.perform(post("/api/tasks/status/transitions").contentType(MediaType.APPLICATION_JSON).content(move))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].outcome").value("UPDATED"))
+				.andExpect(jsonPath("$[0].version").value(version + 1));
+
+		Map<String, Object> row = jdbcTemplate.queryForMap(
+				"SELECT status, version, updated_at FROM tasks WHERE id = ?", task.getId());
+		assertThat(((Number) row.get("status")).shortValue()).isEqualTo(TaskStatus.DONE.getCode());
+		assertThat(((Number) row.get("version")).longValue()).isEqualTo(version + 1);
+		assertThat(row.get("updated_at")).isNotNull();
+		assertThat(taskService.getTaskById(task.getId())).get()
+				.extracting(Task::getStatus).isEqualTo(TaskStatus.DONE);
+
+		// Replaying the same item is now stale
+		mockMvc.perform(post("/api/tasks/status/transitions").contentType(MediaType.APPLICATION_JSON).content(move))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].outcome").value("CONFLICT"))
+				.andExpect(jsonPath("$[0].version").doesNotExist());
+	}
+
+	@Test
+	void incompleteItemsAreRejected() throws Exception {
+		Task task = create();
+		mockMvc.perform(post("/api/tasks/status/transitions").contentType(MediaType.APPLICATION_JSON)
+						.content("[{\"id\": " + task.getId() + ", \"newStatus\": \"DONE\"}]"))
+				.andExpect(status().isBadRequest());
+		assertThat(taskService.getTaskById(task.getId())).get()
+				.extracting(Task::getStatus).isEqualTo(TaskStatus.TODO);
+	}
+
+	// Set-based status changes bump the version like entity updates do
+	@Test
+	void bulkStatusUpdateBumpsVersions() {
+		Task task = create();
+		long version = task.getVersion();
+
+		taskService.bulkUpdateStatus(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+
+		assertThat(jdbcTemplate.queryForObject("SELECT version FROM tasks WHERE id = ?", Long.class, task.getId()))
+				.isEqualTo(version + 1);
+	}
+
+	private Task create() {
+		Task task = new Task();
+		task.setTitle("transition");
+		task.setStatus(TaskStatus.TODO);
+		return taskService.createTask(userId, task);
+	}
+}
@@ -0,0 +1,121 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.entity.Tag;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TagService;
+import com.example.taskmanagement.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class SummarySearchTests {
+
+	private static final int TASKS = 30;
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TagService tagService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private MockMvc mockMvc;
+
+	private User user;
+
+	private final List<Long> taskIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		user = new User();
+		user.setUsername("summary-" + System.nanoTime());
+		user.setEmail("summary@example.com");
+		user = userRepository.save(user);
+		Tag red = tag("red");
+		Tag blue = tag("blue");
+		for (int i = 0; i < TASKS; i++) {
+			Task task = new Task();
+			task.setTitle("summary " + i);
+			task.setPriority(i % 2 == 0 ? TaskPriority.HIGH : TaskPriority.LOW);
+			Long id = taskService.createTask(user.getId(), task).getId();
+			if (i % 3 == 0) {
+				taskService.addTagToTask(id, red.getId());
+				taskService.addTagToTask(id, blue.getId());
+			}
+			taskIds.add(id);
+		}
+	}
+
+	@Test
+	void summariesAreFlatRowsWithTagNames() throws Exception {
+		JsonNode summaries = summaries("{\"userId\": " + user.getId() + "}");
+
+		assertThat(summaries).hasSize(TASKS);
+		for (JsonNode summary : summaries) {
+			int i = taskIds.indexOf(summary.get("id").asLong());
+			assertThat(summary.get("title").asString()).isEqualTo("summary " + i);
+			assertThat(summary.get("priority").asString()).isEqualTo(i % 2 == 0 ? "HIGH" : "LOW");
+			assertThat(summary.get("username").asString()).isEqualTo(user.getUsername());
+			assertThat(summary.get("tagNames")).hasSize(i % 3 == 0 ? 2 : 0);
+		}
+	}
+
+	@Test
+	void searchTakesTwoQueriesAndLoadsNoEntities() throws Exception {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		long loads = statistics.getEntityLoadCount();
+		long statements = statistics.getPrepareStatementCount();
+
+		assertThat(summaries("{\"userId\": " + user.getId() + ", \"priority\": \"HIGH\"}")).hasSize(TASKS / 2);
+
+		assertThat(statistics.getEntityLoadCount()).isEqualTo(loads);
+		assertThat(statistics.getPrepareStatementCount() - statements).isEqualTo(2);
+	}
+
+	private JsonNode summaries(String search) throws Exception {
+		String body = mockMvc.perform(post("/api/tasks/search/summary")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(search))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(body);
+	}
+
+	private Tag tag(String name) {
+		Tag tag = new Tag();
+		tag.setName(name + "-" + System.nanoTime());
+		return tagService.createTag(tag);
+	}
+}
@@ -0,0 +1,126 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.entity.Tag;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TagRepository;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class TaskStreamTests {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TagRepository tagRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private MockMvc mockMvc;
+
+	private final List<Long> taskIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		User user = new User();
+		user.setUsername("stream-" + System.nanoTime());
+		user.setEmail("stream@example.com");
+		user = userRepository.save(user);
+
+		Tag tag = new Tag();
+		tag.setName("stream-" + System.nanoTime());
+		tag = tagRepository.save(tag);
+		for (int i = 0; i < 3; i++) {
+			Task task = new Task();
+			task.setTitle("streamed " + i);
+			task = taskService.createTask(user.getId(), task);
+			if (i > 0) {
+				taskService.addTagToTask(task.getId(), tag.getId());
+			}
+			taskIds.add(task.getId());
+		}
+	}
+
+	@Test
+	void everyTaskIsOneLineWithItsTags() throws Exception {
+		Map<Long, JsonNode> lines = stream();
+		assertThat(lines).containsKeys(taskIds.toArray(Long[]::new));
+		assertThat(lines.get(taskIds.get(0)).get("title").asString()).isEqualTo("streamed 0");
+		assertThat(lines.get(taskIds.get(0)).get("tags")).isEmpty();
+		assertThat(lines.get(taskIds.get(1)).get("tags")).hasSize(1);
+		assertThat(lines.get(taskIds.get(2)).get("tags")).hasSize(1);
+	}
+
+	@Test
+	void tagsAreFetchedPerChunkNotPerTask() throws Exception {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		long chunks = (taskRepository.count() + 499) / 500;
+		long statements = statistics.getPrepareStatementCount();
+		long collectionFetches = statistics.getCollectionFetchCount();
+
+		stream();
+
+		assertThat(statistics.getCollectionFetchCount()).isEqualTo(collectionFetches);
+		assertThat(statistics.getPrepareStatementCount() - statements).isLessThanOrEqualTo(1 + chunks);
+	}
+
+	private Map<Long, JsonNode> stream() throws Exception {
+		MvcResult started = mockMvc.perform(get("/api/tasks").accept(MediaType.APPLICATION_NDJSON))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		String body = mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+				.andReturn().getResponse().getContentAsString();
+
+		Map<Long, JsonNode> lines = new HashMap<>();
+		for (String line : body.split("\n")) {
+			JsonNode task = objectMapper.readTree(line);
+			lines.put(task.get("id").asLong(), task);
+		}
+		return lines;
+	}
+}
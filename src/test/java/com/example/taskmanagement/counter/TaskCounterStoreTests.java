@@ -0,0 +1,200 @@
+package com.example.taskmanagement.counter;
+
+import com.example.taskmanagement.entity.BatchDeleteResultDTO;
+import com.example.taskmanagement.entity.StatusTransitionDTO;
+import com.example.taskmanagement.entity.StatusTransitionResultDTO;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Counts must follow every write path, in memory and in task_counters alike
+@SpringBootTest
+class TaskCounterStoreTests {
+
+	@Autowired
+	private TaskCounterStore counterStore;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		User user = new User();
+		user.setUsername("counter-" + System.nanoTime());
+		user.setEmail("counter@example.com");
+		userId = userRepository.save(user).getId();
+	}
+
+	@Test
+	void entityPathMovesCounts() {
+		Task first = create(TaskStatus.TODO, TaskPriority.MEDIUM);
+		create(TaskStatus.TODO, TaskPriority.HIGH);
+		assertThat(counterStore.count(userId, TaskStatus.TODO, TaskPriority.MEDIUM)).isEqualTo(1);
+		assertThat(counterStore.count(userId, TaskStatus.TODO, TaskPriority.HIGH)).isEqualTo(1);
+
+		// Flushed by the commit, not explicitly
+		Task details = new Task();
+		details.setTitle("moved");
+		details.setStatus(TaskStatus.IN_PROGRESS);
+		details.setPriority(TaskPriority.LOW);
+		taskService.updateTaskWithOptimisticLock(first.getId(), details);
+		assertThat(counterStore.count(userId, TaskStatus.TODO, TaskPriority.MEDIUM)).isZero();
+		assertThat(counterStore.count(userId, TaskStatus.IN_PROGRESS, TaskPriority.LOW)).isEqualTo(1);
+		assertConsistent();
+
+		// Title-only update: no counter moves
+		details.setTitle("renamed");
+		taskService.updateTaskWithOptimisticLock(first.getId(), details);
+		assertThat(counterStore.count(userId, TaskStatus.IN_PROGRESS, TaskPriority.LOW)).isEqualTo(1);
+
+		taskService.deleteTask(first.getId());
+		assertThat(counterStore.count(userId, TaskStatus.IN_PROGRESS, TaskPriority.LOW)).isZero();
+		assertThat(counterStore.getCounts(userId).getTotal()).isEqualTo(1);
+		assertConsistent();
+	}
+
+	@Test
+	void batchTransitionsReportEachItem() {
+		Task a = create(TaskStatus.TODO, TaskPriority.MEDIUM);
+		Task b = create(TaskStatus.TODO, TaskPriority.MEDIUM);
+
+		List<StatusTransitionResultDTO> results = taskService.transitionStatuses(List.of(
+				new StatusTransitionDTO(a.getId(), a.getVersion(), TaskStatus.DONE),
+				new StatusTransitionDTO(b.getId(), b.getVersion() + 1, TaskStatus.DONE),
+				new StatusTransitionDTO(Long.MAX_VALUE, 0L, TaskStatus.DONE)));
+
+		assertThat(results).extracting(StatusTransitionResultDTO::getOutcome).containsExactly(
+				StatusTransitionResultDTO.Outcome.UPDATED,
+				StatusTransitionResultDTO.Outcome.CONFLICT,
+				StatusTransitionResultDTO.Outcome.NOT_FOUND);
+		assertThat(results.get(0).getVersion()).isEqualTo(a.getVersion() + 1);
+		assertThat(counterStore.count(userId, TaskStatus.DONE, TaskPriority.MEDIUM)).isEqualTo(1);
+		assertThat(counterStore.count(userId, TaskStatus.TODO, TaskPriority.MEDIUM)).isEqualTo(1);
+		assertConsistent();
+	}
+
+	@Test
+	void bulkStatusUpdateMovesCounts() {
+		create(TaskStatus.IN_PROGRESS, TaskPriority.HIGH);
+		create(TaskStatus.IN_PROGRESS, TaskPriority.LOW);
+
+		assertThat(taskService.bulkUpdateStatus(TaskStatus.IN_PROGRESS, TaskStatus.DONE)).isGreaterThanOrEqualTo(2);
+		assertThat(counterStore.count(userId, TaskStatus.IN_PROGRESS, TaskPriority.HIGH)).isZero();
+		assertThat(counterStore.count(userId, TaskStatus.DONE, TaskPriority.HIGH)).isEqualTo(1);
+		assertThat(counterStore.count(userId, TaskStatus.DONE, TaskPriority.LOW)).isEqualTo(1);
+		assertConsistent();
+	}
+
+	// More rows than one lock chunk: every chunk is locked, updated and counted
+	@Test
+	void bulkStatusUpdateCoversEveryChunk() {
+		List<Task> tasks = new ArrayList<>();
+		for (int i = 0; i < 1001; i++) {
+			Task task = new Task();
+			task.setTitle("chunked " + i);
+			task.setStatus(TaskStatus.IN_PROGRESS);
+			task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+			tasks.add(task);
+		}
+		taskService.createTasksInBulk(userId, tasks);
+		long inProgress = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE status = ?",
+				Long.class, TaskStatus.IN_PROGRESS.getCode());
+
+		assertThat(taskService.bulkUpdateStatus(TaskStatus.IN_PROGRESS, TaskStatus.TODO)).isEqualTo(inProgress);
+		assertThat(counterStore.getCounts(userId).getByStatus().get(TaskStatus.TODO)).isEqualTo(1001);
+		assertThat(counterStore.countByStatus(TaskStatus.IN_PROGRESS)).isZero();
+		assertConsistent();
+	}
+
+	// REQUIRES_NEW: the inner transaction's deltas commit with it, and the
+	// outer rollback only drops its own
+	@Test
+	void innerTransactionCountsOnItsOwnCommit() {
+		TransactionTemplate outer = new TransactionTemplate(transactionManager);
+		TransactionTemplate inner = new TransactionTemplate(transactionManager);
+		inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		outer.executeWithoutResult(status -> {
+			create(TaskStatus.TODO, TaskPriority.LOW);
+			taskRepository.flush();
+			inner.executeWithoutResult(nested -> create(TaskStatus.DONE, TaskPriority.HIGH));
+			assertThat(counterStore.count(userId, TaskStatus.DONE, TaskPriority.HIGH)).isEqualTo(1);
+			status.setRollbackOnly();
+		});
+
+		assertThat(counterStore.count(userId, TaskStatus.TODO, TaskPriority.LOW)).isZero();
+		assertThat(counterStore.count(userId, TaskStatus.DONE, TaskPriority.HIGH)).isEqualTo(1);
+		assertConsistent();
+	}
+
+	@Test
+	void batchDeleteCountsDistinctIds() {
+		Task a = create(TaskStatus.TODO, TaskPriority.LOW);
+		Task b = create(TaskStatus.DONE, TaskPriority.LOW);
+
+		BatchDeleteResultDTO result = taskService.deleteMultipleTasks(
+				Arrays.asList(a.getId(), a.getId(), null, Long.MAX_VALUE));
+
+		assertThat(result.getRequested()).isEqualTo(2);
+		assertThat(result.getDeleted()).isEqualTo(1);
+		assertThat(counterStore.count(userId, TaskStatus.TODO, TaskPriority.LOW)).isZero();
+		assertThat(counterStore.count(userId, TaskStatus.DONE, TaskPriority.LOW)).isEqualTo(1);
+		assertThat(taskService.getTaskById(b.getId())).isPresent();
+		assertConsistent();
+	}
+
+	private Task create(TaskStatus status, TaskPriority priority) {
+		Task task = new Task();
+		task.setTitle("counted");
+		task.setStatus(status);
+		task.setPriority(priority);
+		return taskService.createTask(userId, task);
+	}
+
+	// In-memory cells, the task_counters table and a real COUNT(*) agree
+	private void assertConsistent() {
+		for (TaskStatus status : TaskStatus.values()) {
+			for (TaskPriority priority : TaskPriority.values()) {
+				long actual = jdbcTemplate.queryForObject(
+						"SELECT COUNT(*) FROM tasks WHERE user_id = ? AND status = ? AND priority = ?",
+						Long.class, userId, status.getCode(), priority.getCode());
+				long persisted = jdbcTemplate.queryForObject(
+						"SELECT COALESCE(SUM(task_count), 0) FROM task_counters WHERE user_id = ? AND status = ? AND priority = ?",
+						Long.class, userId, status.getCode(), priority.getCode());
+				assertThat(counterStore.count(userId, status, priority)).as("%s/%s", status, priority).isEqualTo(actual);
+				assertThat(persisted).as("task_counters %s/%s", status, priority).isEqualTo(actual);
+			}
+		}
+	}
+}
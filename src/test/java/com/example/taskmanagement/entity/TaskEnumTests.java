@@ -0,0 +1,102 @@
+package com.example.taskmanagement.entity;
+
+import com.example.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class TaskEnumTests {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void legacyStringsParseTheSameInEveryLocale() {
+		Locale original = Locale.getDefault();
+		try {
+			// Turkish upper-cases 'i' to a dotted capital I
+			for (Locale locale : new Locale[]{Locale.ROOT, Locale.forLanguageTag("tr-TR"), Locale.forLanguageTag("az-AZ")}) {
+				Locale.setDefault(locale);
+				assertThat(TaskStatus.fromValue("in-progress")).as("%s", locale).isEqualTo(TaskStatus.IN_PROGRESS);
+				assertThat(TaskStatus.fromValue(" In Progress ")).as("%s", locale).isEqualTo(TaskStatus.IN_PROGRESS);
+				assertThat(TaskStatus.fromValue("done")).as("%s", locale).isEqualTo(TaskStatus.DONE);
+				assertThat(TaskPriority.fromValue("high")).as("%s", locale).isEqualTo(TaskPriority.HIGH);
+				assertThat(TaskPriority.fromValue("medium")).as("%s", locale).isEqualTo(TaskPriority.MEDIUM);
+			}
+		} finally {
+			Locale.setDefault(original);
+		}
+		assertThat(TaskStatus.fromValue(null)).isNull();
+		assertThatThrownBy(() -> TaskStatus.fromValue("archived")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> TaskPriority.fromValue("urgent")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	// The codes are part of the schema
+	@Test
+	void codesAreStable() {
+		assertThat(TaskStatus.TODO.getCode()).isEqualTo((short) 0);
+		assertThat(TaskStatus.IN_PROGRESS.getCode()).isEqualTo((short) 1);
+		assertThat(TaskStatus.DONE.getCode()).isEqualTo((short) 2);
+		assertThat(TaskPriority.LOW.getCode()).isEqualTo((short) 0);
+		assertThat(TaskPriority.MEDIUM.getCode()).isEqualTo((short) 1);
+		assertThat(TaskPriority.HIGH.getCode()).isEqualTo((short) 2);
+		for (TaskStatus status : TaskStatus.values()) {
+			assertThat(TaskStatus.fromCode(status.getCode())).isEqualTo(status);
+		}
+		for (TaskPriority priority : TaskPriority.values()) {
+			assertThat(TaskPriority.fromCode(priority.getCode())).isEqualTo(priority);
+		}
+	}
+
+	@Test
+	void apiAcceptsLegacyValuesAndStoresCodes() throws Exception {
+		MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		User user = new User();
+		user.setUsername("enum-" + System.nanoTime());
+		user.setEmail("enum@example.com");
+		Long userId = userRepository.save(user).getId();
+
+		String body = mockMvc.perform(post("/api/tasks/user/" + userId)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"title\": \"legacy\", \"status\": \"in progress\", \"priority\": \"high\"}"))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+		JsonNode task = objectMapper.readTree(body);
+		assertThat(task.get("status").asString()).isEqualTo("IN_PROGRESS");
+		assertThat(task.get("priority").asString()).isEqualTo("HIGH");
+
+		Map<String, Object> row = jdbcTemplate.queryForMap(
+				"SELECT status, priority FROM tasks WHERE id = ?", task.get("id").asLong());
+		assertThat(((Number) row.get("STATUS")).intValue()).isEqualTo(1);
+		assertThat(((Number) row.get("PRIORITY")).intValue()).isEqualTo(2);
+
+		mockMvc.perform(post("/api/tasks/user/" + userId)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"title\": \"unknown\", \"status\": \"archived\"}"))
+				.andExpect(status().isBadRequest());
+	}
+}
@@ -0,0 +1,101 @@
+package com.example.taskmanagement.event;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TaskEventPipelineTests {
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CountingTaskEventSink countingSink;
+
+	@Test
+	void lifecycleCallbacksReachTheSinksAsynchronously() throws Exception {
+		Map<TaskLifecycleEvent.Type, Long> before = countingSink.getCounts();
+		User user = new User();
+		user.setUsername("events-" + System.nanoTime());
+		user.setEmail("events@example.com");
+		user = userRepository.save(user);
+		Task task = new Task();
+		task.setTitle("evented");
+		task = taskService.createTask(user.getId(), task);
+		task.setTitle("evented again");
+		taskService.updateTaskWithOptimisticLock(task.getId(), task);
+		taskService.deleteTask(task.getId());
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!allAdvanced(before) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		assertThat(allAdvanced(before)).isTrue();
+	}
+
+	@Test
+	void fullQueueDropsInsteadOfBlocking() {
+		List<TaskLifecycleEvent> received = new ArrayList<>();
+		TaskEventPipeline pipeline = pipeline(2, received);
+
+		for (long id = 1; id <= 5; id++) {
+			pipeline.publish(TaskLifecycleEvent.Type.CREATED, id, 0L);
+		}
+		assertThat(pipeline.getStats()).containsEntry("published", 2L).containsEntry("dropped", 3L)
+				.containsEntry("queued", 2);
+
+		pipeline.drain();
+		assertThat(received).extracting(TaskLifecycleEvent::getTaskId).containsExactly(1L, 2L);
+		assertThat(pipeline.getStats()).containsEntry("queued", 0);
+
+		// Drained slots are free again
+		pipeline.publish(TaskLifecycleEvent.Type.UPDATED, 6L, 1L);
+		assertThat(pipeline.getStats()).containsEntry("published", 3L).containsEntry("dropped", 3L);
+	}
+
+	@Test
+	void brokenSinkDoesNotStopTheOthers() {
+		List<TaskLifecycleEvent> received = new ArrayList<>();
+		TaskEventPipeline pipeline = pipeline(10, received);
+		List<TaskEventSink> sinks = new ArrayList<>();
+		sinks.add(batch -> {
+			throw new IllegalStateException("broken sink");
+		});
+		sinks.add(received::addAll);
+		ReflectionTestUtils.setField(pipeline, "sinks", sinks);
+
+		pipeline.publish(TaskLifecycleEvent.Type.DELETED, 7L, 2L);
+		pipeline.drain();
+		assertThat(received).extracting(TaskLifecycleEvent::getType).containsExactly(TaskLifecycleEvent.Type.DELETED);
+	}
+
+	private boolean allAdvanced(Map<TaskLifecycleEvent.Type, Long> before) {
+		Map<TaskLifecycleEvent.Type, Long> now = countingSink.getCounts();
+		return List.of(TaskLifecycleEvent.Type.CREATED, TaskLifecycleEvent.Type.UPDATED, TaskLifecycleEvent.Type.DELETED)
+				.stream().allMatch(type -> now.get(type) > before.get(type));
+	}
+
+	// Not started, so nothing drains until the test calls drain()
+	private static TaskEventPipeline pipeline(int capacity, List<TaskLifecycleEvent> received) {
+		TaskEventPipeline pipeline = new TaskEventPipeline();
+		ReflectionTestUtils.setField(pipeline, "enabled", true);
+		ReflectionTestUtils.setField(pipeline, "capacity", capacity);
+		ReflectionTestUtils.setField(pipeline, "batchSize", 100);
+		ReflectionTestUtils.setField(pipeline, "sinks", List.<TaskEventSink>of(received::addAll));
+		return pipeline;
+	}
+}
@@ -0,0 +1,168 @@
+package com.example.taskmanagement.ingest;
+
+import com.example.taskmanagement.controller.IngestController;
+import com.example.taskmanagement.entity.IngestTicketDTO;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class TaskIngestQueueTests {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private TaskIngestQueue ingestQueue;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private MockMvc mockMvc;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		User user = new User();
+		user.setUsername("ingest-" + System.nanoTime());
+		user.setEmail("ingest@example.com");
+		userId = userRepository.save(user).getId();
+	}
+
+	@Test
+	void queuedTasksAreWrittenAndTicketsReportThem() throws Exception {
+		String body = mockMvc.perform(post("/api/ingest/tasks/user/" + userId)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"title\": \"queued\", \"description\": \"later\"}"))
+				.andExpect(status().isAccepted())
+				.andExpect(jsonPath("$.status").value("QUEUED"))
+				.andReturn().getResponse().getContentAsString();
+		long ticket = objectMapper.readTree(body).get("ticket").asLong();
+
+		IngestTicketDTO done = awaitFinished(ticket);
+		assertThat(done.getStatus()).isEqualTo(IngestTicketDTO.Status.CREATED);
+		assertThat(taskRepository.findById(done.getTaskId())).get()
+				.extracting(Task::getTitle).isEqualTo("queued");
+		mockMvc.perform(get("/api/ingest/tickets/" + ticket))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.status").value("CREATED"))
+				.andExpect(jsonPath("$.taskId").value(done.getTaskId()));
+	}
+
+	@Test
+	void everyTaskOfABurstGetsItsOwnRow() {
+		List<Long> tickets = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			Task task = new Task();
+			task.setTitle("burst " + i);
+			tickets.add(ingestQueue.submit(userId, task).orElseThrow().getTicket());
+		}
+
+		Set<Long> taskIds = new HashSet<>();
+		for (long ticket : tickets) {
+			IngestTicketDTO done = awaitFinished(ticket);
+			assertThat(done.getStatus()).isEqualTo(IngestTicketDTO.Status.CREATED);
+			taskIds.add(done.getTaskId());
+		}
+		assertThat(taskIds).hasSize(50);
+		assertThat(taskRepository.countByUserId(userId)).isEqualTo(50);
+	}
+
+	// Fails only its own ticket; a valid task queued right behind it is written
+	@Test
+	void unknownUserFailsItsTicket() throws Exception {
+		Task orphan = new Task();
+		orphan.setTitle("orphan");
+		long failed = ingestQueue.submit(Long.MAX_VALUE, orphan).orElseThrow().getTicket();
+		Task valid = new Task();
+		valid.setTitle("valid");
+		long created = ingestQueue.submit(userId, valid).orElseThrow().getTicket();
+
+		assertThat(awaitFinished(failed).getStatus()).isEqualTo(IngestTicketDTO.Status.FAILED);
+		assertThat(awaitFinished(failed).getError()).isEqualTo("User not found");
+		assertThat(awaitFinished(created).getStatus()).isEqualTo(IngestTicketDTO.Status.CREATED);
+
+		mockMvc.perform(post("/api/ingest/tasks/user/" + userId)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"title\": \" \"}"))
+				.andExpect(status().isBadRequest());
+	}
+
+	// A queue nobody drains: the submit after capacity is refused with 429
+	@Test
+	void fullQueueAnswersTooManyRequests() throws Exception {
+		TaskIngestQueue stalled = new TaskIngestQueue();
+		ReflectionTestUtils.setField(stalled, "capacity", 2);
+		ReflectionTestUtils.setField(stalled, "queue", new ArrayBlockingQueue<>(2));
+		ReflectionTestUtils.setField(stalled, "running", true);
+		IngestController controller = new IngestController();
+		ReflectionTestUtils.setField(controller, "ingestQueue", stalled);
+		MockMvc stalledMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+		for (int i = 0; i < 2; i++) {
+			stalledMvc.perform(post("/api/ingest/tasks/user/" + userId)
+							.contentType(MediaType.APPLICATION_JSON)
+							.content("{\"title\": \"fits\"}"))
+					.andExpect(status().isAccepted());
+		}
+		stalledMvc.perform(post("/api/ingest/tasks/user/" + userId)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"title\": \"overflow\"}"))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string("Retry-After", "1"));
+
+		assertThat(stalled.getStats())
+				.containsEntry("queued", 2)
+				.containsEntry("accepted", 2L)
+				.containsEntry("rejected", 1L)
+				.containsEntry("trackedTickets", 2);
+	}
+
+	private IngestTicketDTO awaitFinished(long ticket) {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (System.currentTimeMillis() < deadline) {
+			IngestTicketDTO current = ingestQueue.getTicket(ticket).orElseThrow();
+			if (current.getStatus() != IngestTicketDTO.Status.QUEUED) {
+				return current;
+			}
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+		throw new AssertionError("Ticket " + ticket + " still queued");
+	}
+}
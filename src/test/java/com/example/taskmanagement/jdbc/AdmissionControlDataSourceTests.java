@@ -0,0 +1,73 @@
+package com.example.taskmanagement.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlDataSourceTests {
+
+	private DriverManagerDataSource target;
+
+	@BeforeEach
+	void setUp() {
+		target = new DriverManagerDataSource("jdbc:h2:mem:admission-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+	}
+
+	@Test
+	void rejectsOnceThePermitsAreTakenAndReleasesOnClose() throws Exception {
+		AdmissionControlDataSource dataSource = new AdmissionControlDataSource(target, 2, 50);
+		Connection first = dataSource.getConnection();
+		Connection second = dataSource.getConnection();
+
+		assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+		assertThat(dataSource.getStats())
+				.containsEntry("inUse", 2)
+				.containsEntry("waited", 1L)
+				.containsEntry("rejected", 1L);
+
+		// A second close() must not hand out a second permit
+		first.close();
+		first.close();
+		assertThat(dataSource.getStats()).containsEntry("inUse", 1);
+		try (Connection third = dataSource.getConnection()) {
+			assertThat(third.isValid(1)).isTrue();
+			assertThat(dataSource.getStats()).containsEntry("inUse", 2);
+		}
+		second.close();
+		assertThat(dataSource.getStats()).containsEntry("inUse", 0).containsEntry("admitted", 3L);
+	}
+
+	@Test
+	void waiterIsAdmittedWhenAConnectionIsReturned() throws Exception {
+		AdmissionControlDataSource dataSource = new AdmissionControlDataSource(target, 1, 5_000);
+		Connection held = dataSource.getConnection();
+
+		CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(() -> {
+			try {
+				return dataSource.getConnection();
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		while (dataSource.getStats().get("waiting").equals(0)) {
+			Thread.onSpinWait();
+		}
+		assertThat(waiter).isNotDone();
+
+		held.close();
+		try (Connection admitted = waiter.get(5, TimeUnit.SECONDS)) {
+			assertThat(admitted.isValid(1)).isTrue();
+		}
+		assertThat(dataSource.getStats())
+				.containsEntry("waited", 1L)
+				.containsEntry("rejected", 0L)
+				.containsEntry("inUse", 0);
+	}
+}
@@ -0,0 +1,107 @@
+package com.example.taskmanagement.retry;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class OptimisticRetryExecutorTests {
+
+	@Autowired
+	private OptimisticRetryExecutor retryExecutor;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	// A concurrent update between load and commit fails the first attempt at
+	// commit; the second attempt reloads the new version and succeeds
+	@Test
+	void conflictAtCommitIsRetriedWithAFreshLoad() {
+		User user = new User();
+		user.setUsername("retry-" + System.nanoTime());
+		user.setEmail("retry@example.com");
+		user = userRepository.save(user);
+		Task created = new Task();
+		created.setTitle("original");
+		Long id = taskService.createTask(user.getId(), created).getId();
+
+		String operation = "conflict-" + System.nanoTime();
+		AtomicInteger attempts = new AtomicInteger();
+		Task updated = retryExecutor.execute(operation, 3, () -> {
+			Task task = taskRepository.findById(id).orElseThrow();
+			if (attempts.incrementAndGet() == 1) {
+				Task details = new Task();
+				details.setTitle("concurrent");
+				CompletableFuture.runAsync(() -> taskService.updateTaskWithOptimisticLock(id, details)).join();
+			}
+			task.setTitle("retried");
+			return taskRepository.save(task);
+		});
+
+		assertThat(attempts).hasValue(2);
+		assertThat(updated.getTitle()).isEqualTo("retried");
+		assertThat(taskRepository.findById(id).orElseThrow().getVersion()).isEqualTo(2);
+		Map<String, Object> stats = retryExecutor.getStats().get(operation);
+		assertThat(stats).containsEntry("calls", 1L)
+				.containsEntry("attempts", 2L)
+				.containsEntry("conflicts", 1L)
+				.containsEntry("retries", 1L)
+				.containsEntry("successes", 1L);
+	}
+
+	// Every attempt runs in a transaction of its own; none is held in between
+	@Test
+	void givesUpAfterMaxAttempts() {
+		String operation = "exhausted-" + System.nanoTime();
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatThrownBy(() -> retryExecutor.execute(operation, 3, () -> {
+			attempts.incrementAndGet();
+			assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+			throw new OptimisticLockingFailureException("conflict");
+		})).isInstanceOf(OptimisticLockingFailureException.class);
+
+		assertThat(attempts).hasValue(3);
+		assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+		assertThat(retryExecutor.getStats().get(operation))
+				.containsEntry("attempts", 3L)
+				.containsEntry("retries", 2L)
+				.containsEntry("exhausted", 1L)
+				.containsEntry("successes", 0L);
+	}
+
+	@Test
+	void otherFailuresAreNotRetried() {
+		String operation = "failed-" + System.nanoTime();
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatThrownBy(() -> retryExecutor.execute(operation, 3, () -> {
+			attempts.incrementAndGet();
+			throw new IllegalArgumentException("bad input");
+		})).isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(attempts).hasValue(1);
+		assertThat(retryExecutor.getStats().get(operation))
+				.containsEntry("attempts", 1L)
+				.containsEntry("conflicts", 0L);
+	}
+}
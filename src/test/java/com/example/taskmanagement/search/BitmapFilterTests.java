@@ -0,0 +1,156 @@
+package com.example.taskmanagement.search;
+
+import com.example.taskmanagement.entity.Tag;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskSearchDTO;
+import com.example.taskmanagement.entity.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TagService;
+import com.example.taskmanagement.service.TaskService;
+import com.example.taskmanagement.specification.TaskSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Filters answered from the bitmaps must return exactly what the SQL predicates return
+@SpringBootTest
+class BitmapFilterTests {
+
+	private static final TaskStatus[] STATUSES = {null, TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.DONE};
+	private static final TaskPriority[] PRIORITIES = {null, TaskPriority.LOW, TaskPriority.MEDIUM, TaskPriority.HIGH};
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TagService tagService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TaskSearchPlanner searchPlanner;
+
+	@Autowired
+	private TaskBitmapIndex bitmapIndex;
+
+	private Long userId;
+
+	private Tag tag;
+
+	private final List<Long> taskIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		User user = new User();
+		user.setUsername("bitmap-" + System.nanoTime());
+		user.setEmail("bitmap@example.com");
+		userId = userRepository.save(user).getId();
+
+		Tag newTag = new Tag();
+		newTag.setName("bitmap-" + System.nanoTime());
+		tag = tagService.createTag(newTag);
+
+		for (int i = 0; i < 9; i++) {
+			Task task = new Task();
+			task.setTitle("bitmap " + i);
+			task.setStatus(STATUSES[1 + i % 3]);
+			task.setPriority(PRIORITIES[1 + i / 3]);
+			Long id = taskService.createTask(userId, task).getId();
+			if (i % 2 == 0) {
+				taskService.addTagToTask(id, tag.getId());
+			}
+			taskIds.add(id);
+		}
+	}
+
+	@Test
+	void everyFilterCombinationMatchesSql() {
+		assertThat(bitmapIndex.isReady()).isTrue();
+		for (TaskStatus status : STATUSES) {
+			for (TaskPriority priority : PRIORITIES) {
+				for (String tagName : Arrays.asList(null, tag.getName())) {
+					TaskSearchDTO search = search(status, priority, tagName);
+					assertThat(searchPlanner.plan(search).isFiltersResolved()).isTrue();
+					assertThat(ids(taskService.searchTasks(search)))
+							.as("status=%s priority=%s tag=%s", status, priority, tagName)
+							.isEqualTo(sql(status, priority, tagName));
+				}
+			}
+		}
+	}
+
+	@Test
+	void pageIsSlicedOffTheBitmapInIdOrder() {
+		TaskSearchDTO search = search(null, null, tag.getName());
+		List<Long> tagged = List.of(taskIds.get(8), taskIds.get(6), taskIds.get(4), taskIds.get(2), taskIds.get(0));
+
+		List<Long> firstPage = taskService.searchTasksWithPagination(search, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id")))
+				.map(Task::getId).getContent();
+		List<Long> lastPage = taskService.searchTasksWithPagination(search, PageRequest.of(2, 2, Sort.by(Sort.Direction.DESC, "id")))
+				.map(Task::getId).getContent();
+
+		assertThat(firstPage).isEqualTo(tagged.subList(0, 2));
+		assertThat(lastPage).isEqualTo(tagged.subList(4, 5));
+		assertThat(taskService.searchTasksWithPagination(search, PageRequest.of(0, 2)).getTotalElements()).isEqualTo(5);
+	}
+
+	@Test
+	void updatesAndTagRenamesMoveTheBits() {
+		Long id = taskIds.get(0);
+		Task task = taskService.getTaskById(id).orElseThrow();
+		task.setStatus(TaskStatus.DONE);
+		taskService.updateTaskWithOptimisticLock(id, task);
+
+		assertThat(ids(taskService.searchTasks(search(TaskStatus.TODO, null, null)))).doesNotContain(id);
+		assertThat(ids(taskService.searchTasks(search(TaskStatus.DONE, null, null)))).contains(id);
+
+		String oldName = tag.getName();
+		Tag renamed = new Tag();
+		renamed.setName(oldName + "-renamed");
+		tagService.updateTag(tag.getId(), renamed);
+
+		assertThat(taskService.searchTasks(search(null, null, oldName))).isEmpty();
+		assertThat(ids(taskService.searchTasks(search(null, null, renamed.getName()))))
+				.isEqualTo(sql(null, null, renamed.getName()))
+				.hasSize(5);
+	}
+
+	private TaskSearchDTO search(TaskStatus status, TaskPriority priority, String tagName) {
+		TaskSearchDTO search = new TaskSearchDTO();
+		search.setUserId(userId);
+		search.setStatus(status);
+		search.setPriority(priority);
+		search.setTagName(tagName);
+		return search;
+	}
+
+	private Set<Long> sql(TaskStatus status, TaskPriority priority, String tagName) {
+		Specification<Task> spec = Specification.where(TaskSpecification.belongsToUser(userId))
+				.and(TaskSpecification.hasStatus(status))
+				.and(TaskSpecification.hasPriority(priority))
+				.and(TaskSpecification.hasTag(tagName));
+		return ids(taskRepository.findAll(spec));
+	}
+
+	private static Set<Long> ids(List<Task> tasks) {
+		return tasks.stream().map(Task::getId).collect(Collectors.toSet());
+	}
+}
@@ -0,0 +1,124 @@
+package com.example.taskmanagement.search;
+
+import com.example.taskmanagement.entity.Tag;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskSnapshot;
+import com.example.taskmanagement.entity.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TagService;
+import com.example.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class FacetCountTests {
+
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TagService tagService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	// Small hit sets are tallied per hit, large ones per facet value; both must agree
+	@Test
+	void smallAndLargeHitSetsCountTheSame() {
+		TaskBitmapIndex index = new TaskBitmapIndex();
+		List<TaskSnapshot> snapshots = new ArrayList<>();
+		index.onReplayStarted();
+		for (long id = 1; id <= 200; id++) {
+			Set<String> tags = id % 2 == 0 ? Set.of("t" + id % 7, "even") : Set.of("t" + id % 7);
+			TaskSnapshot snapshot = new TaskSnapshot(id, "task " + id, null, TaskStatus.values()[(int) id % 3],
+					TaskPriority.values()[(int) id % 3], id % 50, 0L, null, null, tags);
+			index.onTaskWritten(snapshot);
+			snapshots.add(snapshot);
+		}
+		index.onReplayFinished();
+
+		for (RoaringBitmap hits : List.of(RoaringBitmap.bitmapOf(2, 3, 5, 8, 13), RoaringBitmap.bitmapOfRange(1, 201),
+				RoaringBitmap.bitmapOfRange(20, 180), new RoaringBitmap())) {
+			assertThat(index.facetCounts(hits)).as("%s hits", hits.getCardinality()).isEqualTo(expected(snapshots, hits));
+		}
+	}
+
+	@Test
+	void searchEndpointReturnsHitsWithFacets() throws Exception {
+		MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		User user = new User();
+		user.setUsername("facets-" + System.nanoTime());
+		user.setEmail("facets@example.com");
+		Long userId = userRepository.save(user).getId();
+		Tag tag = new Tag();
+		tag.setName("facets-" + System.nanoTime());
+		tag = tagService.createTag(tag);
+		for (int i = 0; i < 4; i++) {
+			Task task = new Task();
+			task.setTitle("facet " + i);
+			task.setStatus(i < 3 ? TaskStatus.TODO : TaskStatus.DONE);
+			task.setPriority(TaskPriority.HIGH);
+			Long id = taskService.createTask(userId, task).getId();
+			if (i % 2 == 0) {
+				taskService.addTagToTask(id, tag.getId());
+			}
+		}
+
+		mockMvc.perform(post("/api/tasks/search?facets=true")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"userId\": " + userId + "}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.hits.length()").value(4))
+				.andExpect(jsonPath("$.facets.status.TODO").value(3))
+				.andExpect(jsonPath("$.facets.status.DONE").value(1))
+				.andExpect(jsonPath("$.facets.priority.HIGH").value(4))
+				.andExpect(jsonPath("$.facets.tag['" + tag.getName() + "']").value(2))
+				.andExpect(jsonPath("$.facets.user['" + userId + "']").value(4));
+
+		mockMvc.perform(post("/api/tasks/search")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"userId\": " + userId + "}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(4));
+	}
+
+	private static Map<String, Map<String, Long>> expected(List<TaskSnapshot> snapshots, RoaringBitmap hits) {
+		Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+		for (String facet : List.of("status", "priority", "tag", "user")) {
+			facets.put(facet, new HashMap<>());
+		}
+		for (TaskSnapshot snapshot : snapshots) {
+			if (!hits.contains(snapshot.getId().intValue())) {
+				continue;
+			}
+			facets.get("status").merge(snapshot.getStatus().name(), 1L, Long::sum);
+			facets.get("priority").merge(snapshot.getPriority().name(), 1L, Long::sum);
+			snapshot.getTagNames().forEach(tag -> facets.get("tag").merge(tag, 1L, Long::sum));
+			facets.get("user").merge(String.valueOf(snapshot.getUserId()), 1L, Long::sum);
+		}
+		return facets;
+	}
+}
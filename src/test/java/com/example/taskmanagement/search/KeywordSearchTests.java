@@ -0,0 +1,137 @@
+package com.example.taskmanagement.search;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskSearchDTO;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TaskService;
+import com.example.taskmanagement.specification.TaskSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The text index and the SQL LIKE fallback must agree on what a keyword matches
+@SpringBootTest
+class KeywordSearchTests {
+
+	private static final List<String> KEYWORDS = List.of(
+			"ask", "task", "TASK", "report", "port", "write the", "the task", "e t", "v1.2", "1", "quarterly", "zzz");
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TaskSearchPlanner searchPlanner;
+
+	@Autowired
+	private TaskTextIndex textIndex;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final Set<Long> taskIds = new HashSet<>();
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = new User();
+		user.setUsername("keyword-" + System.nanoTime());
+		user.setEmail("keyword@example.com");
+		user = userRepository.save(user);
+
+		create(user, "Write the task report", "Quarterly numbers");
+		create(user, "Review", "Ship v1.2 after the task force signs off");
+		create(user, "Tasks overview", null);
+		create(user, "Port the importer", "Reporting pipeline");
+		create(user, "Unrelated", "Nothing to see");
+	}
+
+	@Test
+	void indexAndSqlReturnTheSameTasks() {
+		assertThat(textIndex.isReady()).isTrue();
+		for (String keyword : KEYWORDS) {
+			assertThat(indexed(keyword)).as("keyword '%s'", keyword).isEqualTo(sql(keyword));
+		}
+	}
+
+	@Test
+	void wordInsideATermMatches() {
+		assertThat(indexed("ask")).hasSize(3);
+		assertThat(searchPlanner.plan(search("ask")).isKeywordResolved()).isTrue();
+	}
+
+	@Test
+	void keywordsSpanningTermsAreCheckedInSql() {
+		assertThat(indexed("write the")).hasSize(1);
+		assertThat(searchPlanner.plan(search("write the")).isKeywordResolved()).isFalse();
+		assertThat(indexed("the write")).isEmpty();
+	}
+
+	@Test
+	void innerTransactionIsIndexedOnItsOwnCommit() {
+		String outerTerm = "outer" + System.nanoTime();
+		String innerTerm = "inner" + System.nanoTime();
+		TransactionTemplate outer = new TransactionTemplate(transactionManager);
+		TransactionTemplate inner = new TransactionTemplate(transactionManager);
+		inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		outer.executeWithoutResult(status -> {
+			create(user, outerTerm, null);
+			taskRepository.flush();
+			inner.executeWithoutResult(nested -> create(user, innerTerm, null));
+			assertThat(textIndex.search(innerTerm, 10)).hasSize(1);
+			status.setRollbackOnly();
+		});
+
+		assertThat(textIndex.search(innerTerm, 10)).hasSize(1);
+		assertThat(textIndex.search(outerTerm, 10)).isEmpty();
+	}
+
+	private void create(User user, String title, String description) {
+		Task task = new Task();
+		task.setTitle(title);
+		task.setDescription(description);
+		taskIds.add(taskService.createTask(user.getId(), task).getId());
+	}
+
+	private Set<Long> indexed(String keyword) {
+		return taskService.searchTasks(search(keyword)).stream()
+				.map(Task::getId)
+				.filter(taskIds::contains)
+				.collect(Collectors.toSet());
+	}
+
+	private Set<Long> sql(String keyword) {
+		Specification<Task> spec = Specification.where(TaskSpecification.titleContains(keyword))
+				.or(TaskSpecification.descriptionContains(keyword));
+		return taskRepository.findAll(spec).stream()
+				.map(Task::getId)
+				.filter(taskIds::contains)
+				.collect(Collectors.toSet());
+	}
+
+	private static TaskSearchDTO search(String keyword) {
+		TaskSearchDTO searchDTO = new TaskSearchDTO();
+		searchDTO.setKeyword(keyword);
+		return searchDTO;
+	}
+}
@@ -0,0 +1,92 @@
+package com.example.taskmanagement.search;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskSearchDTO;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class SearchShapeTests {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskSearchEngine searchEngine;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void firstLookupOfAShapeIsAMissAndTheRestAreHits() {
+		User user = new User();
+		user.setUsername("shape-" + System.nanoTime());
+		user.setEmail("shape@example.com");
+		user = userRepository.save(user);
+		for (String title : new String[]{"shape alpha", "shape beta", "shape gamma"}) {
+			Task task = new Task();
+			task.setTitle(title);
+			taskService.createTask(user.getId(), task);
+		}
+		// Multi-word keyword and a date range always run in SQL; version order keeps the shape unique
+		TaskSearchDTO search = new TaskSearchDTO();
+		search.setKeyword("shape a");
+		search.setCreatedAfter(LocalDateTime.now().minusDays(1));
+		search.setCreatedBefore(LocalDateTime.now().plusDays(1));
+		PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "version"));
+		long totalMisses = (Long) searchEngine.getStats().get("misses");
+
+		for (int i = 0; i < 3; i++) {
+			Page<Task> page = taskService.searchTasksWithPagination(search, pageable);
+			assertThat(page.getContent()).extracting(Task::getTitle).contains("shape alpha").doesNotContain("shape beta");
+		}
+
+		Map<String, Object> stats = searchEngine.getStats();
+		Map<String, Object> shape = shapeWithOrder(stats, "ORDER BY t.version DESC");
+		assertThat(shape).containsEntry("misses", 1L).containsEntry("hits", 2L).containsEntry("executions", 3L);
+		assertThat((Double) shape.get("hitRate")).isEqualTo(2.0 / 3);
+		assertThat((Long) stats.get("misses")).isEqualTo(totalMisses + 1);
+		long hits = (Long) stats.get("hits");
+		long misses = (Long) stats.get("misses");
+		assertThat((Double) stats.get("hitRate")).isEqualTo((double) hits / (hits + misses));
+	}
+
+	@Test
+	void unknownSortPropertyIsABadRequest() throws Exception {
+		MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		mockMvc.perform(post("/api/tasks/search/paginated?sortBy=user.password")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"createdAfter\": \"2000-01-01T00:00:00\"}"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> shapeWithOrder(Map<String, Object> stats, String orderBy) {
+		Map<String, Object> byShape = (Map<String, Object>) stats.get("byShape");
+		return byShape.values().stream()
+				.map(shape -> (Map<String, Object>) shape)
+				.filter(shape -> ((String) shape.get("jpql")).endsWith(orderBy + ", t.id ASC"))
+				.findFirst()
+				.orElseThrow();
+	}
+}
@@ -0,0 +1,108 @@
+package com.example.taskmanagement.seed;
+
+import com.example.taskmanagement.TaskmanagementApplication;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Each run seeds its own private database through the "seed" profile, so the
+// rows can be compared between runs without touching the shared test database
+class DatasetGeneratorTests {
+
+	private static final int USERS = 40;
+	private static final int TASKS = 2_000;
+
+	@Test
+	void sameSeedYieldsTheSameRows() {
+		List<Map<String, Object>> first;
+		List<Map<String, Object>> second;
+		List<Map<String, Object>> other;
+		try (ConfigurableApplicationContext context = seed(42)) {
+			first = rows(context);
+		}
+		try (ConfigurableApplicationContext context = seed(42)) {
+			second = rows(context);
+		}
+		try (ConfigurableApplicationContext context = seed(7)) {
+			other = rows(context);
+		}
+
+		assertThat(first).hasSize(TASKS).isEqualTo(second);
+		assertThat(other).hasSize(TASKS).isNotEqualTo(first);
+	}
+
+	@Test
+	void tasksPerUserAreSkewedAndNewTasksGetFreshIds() {
+		try (ConfigurableApplicationContext context = seed(42)) {
+			JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+			List<Long> perUser = jdbcTemplate.queryForList(
+					"SELECT COUNT(*) FROM tasks GROUP BY user_id ORDER BY COUNT(*) DESC", Long.class);
+			// Zipf(1.1) over 40 users: the busiest user owns several times the median share
+			assertThat(perUser.get(0)).isGreaterThan(4 * perUser.get(perUser.size() / 2));
+			assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class)).isEqualTo(USERS);
+
+			Task task = new Task();
+			task.setTitle("after seeding");
+			Long userId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+			assertThat(context.getBean(TaskService.class).createTask(userId, task).getId()).isGreaterThan(TASKS);
+		}
+	}
+
+	@Test
+	void zipfSamplerFavoursLowRanksAndIsUniformAtZero() {
+		int[] skewed = histogram(new ZipfSampler(10, 1.0), new Random(1));
+		int[] uniform = histogram(new ZipfSampler(10, 0.0), new Random(1));
+
+		assertThat(skewed[0]).isGreaterThan(3 * skewed[9]);
+		for (int count : uniform) {
+			assertThat(count).isBetween(900, 1100);
+		}
+	}
+
+	private static int[] histogram(ZipfSampler sampler, Random random) {
+		int[] counts = new int[10];
+		for (int i = 0; i < 10_000; i++) {
+			counts[sampler.sample(random)]++;
+		}
+		return counts;
+	}
+
+	// created_at depends on the clock, everything else only on the seed
+	private static List<Map<String, Object>> rows(ConfigurableApplicationContext context) {
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		List<Map<String, Object>> rows = new ArrayList<>(jdbcTemplate.queryForList(
+				"SELECT t.id, t.title, t.description, t.status, t.priority, u.username, " +
+				"(SELECT LISTAGG(g.name, ',') WITHIN GROUP (ORDER BY g.name) FROM task_tags tt " +
+				"JOIN tags g ON g.id = tt.tag_id WHERE tt.task_id = t.id) AS tag_names " +
+				"FROM tasks t JOIN users u ON u.id = t.user_id ORDER BY t.id"));
+		return Collections.unmodifiableList(rows);
+	}
+
+	// Command line arguments, so they win over application-seed.properties
+	private static ConfigurableApplicationContext seed(long randomSeed) {
+		return new SpringApplicationBuilder(TaskmanagementApplication.class)
+				.web(WebApplicationType.NONE)
+				.profiles("seed")
+				.run(
+						"--spring.datasource.url=jdbc:h2:mem:seed-" + System.nanoTime(),
+						// Keep this context's entities out of the JVM-wide cache regions
+						"--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+						"--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+						"--app.seed.users=" + USERS,
+						"--app.seed.tags=15",
+						"--app.seed.tasks=" + TASKS,
+						"--app.seed.batch-size=500",
+						"--app.seed.random-seed=" + randomSeed);
+	}
+}
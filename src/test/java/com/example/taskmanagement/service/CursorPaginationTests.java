@@ -0,0 +1,104 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskCursorPage;
+import com.example.taskmanagement.entity.TaskSearchDTO;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class CursorPaginationTests {
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private final List<Task> tasks = new ArrayList<>();
+
+	private TaskSearchDTO search;
+
+	@BeforeEach
+	void setUp() {
+		User user = new User();
+		user.setUsername("cursor-" + System.nanoTime());
+		user.setEmail("cursor@example.com");
+		user = userRepository.save(user);
+		for (int i = 0; i < 7; i++) {
+			Task task = new Task();
+			task.setTitle("page " + i);
+			tasks.add(taskService.createTask(user.getId(), task));
+		}
+		search = new TaskSearchDTO();
+		search.setUserId(user.getId());
+	}
+
+	@Test
+	void nextCursorResumesWhereThePageEnded() {
+		for (Sort.Direction direction : Sort.Direction.values()) {
+			for (String sortBy : List.of("createdAt", "id")) {
+				List<Long> expected = tasks.stream()
+						.sorted(comparator(sortBy, direction))
+						.map(Task::getId)
+						.toList();
+				assertThat(readAll(sortBy, direction, 3)).as("%s %s", sortBy, direction).isEqualTo(expected);
+			}
+		}
+	}
+
+	@Test
+	void lastPageHasNoCursor() {
+		TaskCursorPage page = taskService.searchTasksWithCursor(search, null, 10, "id", Sort.Direction.ASC, true);
+		assertThat(page.getContent()).hasSize(7);
+		assertThat(page.isHasNext()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+		assertThat(page.getTotalElements()).isEqualTo(7);
+	}
+
+	@Test
+	void cursorIsBoundToItsSortOrder() {
+		String cursor = taskService.searchTasksWithCursor(search, null, 2, "createdAt", Sort.Direction.DESC, false)
+				.getNextCursor();
+
+		assertThatThrownBy(() -> taskService.searchTasksWithCursor(search, cursor, 2, "createdAt", Sort.Direction.ASC, false))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> taskService.searchTasksWithCursor(search, cursor, 2, "id", Sort.Direction.DESC, false))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> taskService.searchTasksWithCursor(search, "not a cursor!", 2, "id", Sort.Direction.DESC, false))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> taskService.searchTasksWithCursor(search, null, 2, "title", Sort.Direction.DESC, false))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private List<Long> readAll(String sortBy, Sort.Direction direction, int size) {
+		List<Long> ids = new ArrayList<>();
+		String cursor = null;
+		do {
+			TaskCursorPage page = taskService.searchTasksWithCursor(search, cursor, size, sortBy, direction, false);
+			page.getContent().forEach(task -> ids.add(task.getId()));
+			assertThat(page.getContent()).hasSizeLessThanOrEqualTo(size);
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+		return ids;
+	}
+
+	// id breaks createdAt ties, in the same direction
+	private static Comparator<Task> comparator(String sortBy, Sort.Direction direction) {
+		Comparator<Task> byId = Comparator.comparing(Task::getId);
+		Comparator<Task> order = sortBy.equals("id") ? byId
+				: Comparator.comparing(Task::getCreatedAt).thenComparing(byId);
+		return direction.isAscending() ? order : order.reversed();
+	}
+}
@@ -0,0 +1,95 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.entity.Tag;
+import com.example.taskmanagement.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SecondLevelCacheTests {
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private TagService tagService;
+
+	@Autowired
+	private CacheStatsService cacheStatsService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void userLookupsAreServedFromTheCacheAndUpdatedOnCommit() {
+		User user = new User();
+		user.setUsername("cached-" + System.nanoTime());
+		user.setEmail("cached@example.com");
+		Long id = userService.createUser(user).getId();
+		userService.getUserById(id);
+
+		long hits = hits("users");
+		long statements = statistics.getPrepareStatementCount();
+		assertThat(userService.getUserById(id)).isPresent();
+		assertThat(hits("users")).isEqualTo(hits + 1);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+
+		User details = new User();
+		details.setUsername(user.getUsername() + "-renamed");
+		details.setEmail("renamed@example.com");
+		userService.updateUser(id, details);
+
+		statements = statistics.getPrepareStatementCount();
+		assertThat(userService.getUserById(id)).get()
+				.extracting(User::getEmail).isEqualTo("renamed@example.com");
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+	}
+
+	@Test
+	void tagNameLookupsUseTheQueryCacheUntilTheTagChanges() {
+		Tag tag = new Tag();
+		tag.setName("cached-" + System.nanoTime());
+		tag = tagService.createTag(tag);
+		String oldName = tag.getName();
+		tagService.getTagByName(oldName);
+
+		long statements = statistics.getPrepareStatementCount();
+		assertThat(tagService.getTagByName(oldName)).isPresent();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+
+		Tag details = new Tag();
+		details.setName(oldName + "-renamed");
+		tagService.updateTag(tag.getId(), details);
+
+		assertThat(tagService.getTagByName(oldName)).isEmpty();
+		assertThat(tagService.getTagByName(details.getName())).get()
+				.extracting(Tag::getId).isEqualTo(tag.getId());
+	}
+
+	@Test
+	void statsReportEveryRegion() {
+		Map<String, Map<String, Object>> regions = cacheStatsService.getRegionStats();
+		assertThat(regions).containsOnlyKeys("tags", "users", "tag-queries");
+		assertThat(regions.values()).allSatisfy(region ->
+				assertThat(region).containsKeys("hits", "misses", "puts", "hitRate", "evictions", "size"));
+	}
+
+	private long hits(String region) {
+		return statistics.getDomainDataRegionStatistics(region).getHitCount();
+	}
+}
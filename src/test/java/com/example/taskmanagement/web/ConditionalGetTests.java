@@ -0,0 +1,141 @@
+package com.example.taskmanagement.web;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskStatus;
+import com.example.taskmanagement.entity.User;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class ConditionalGetTests {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private MockMvc mockMvc;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		User user = new User();
+		user.setUsername("etag-" + System.nanoTime());
+		user.setEmail("etag@example.com");
+		userId = userRepository.save(user).getId();
+	}
+
+	@Test
+	void taskListIsNotModifiedUntilATaskChanges() throws Exception {
+		String eTag = eTagOf("/api/tasks");
+
+		// The validator costs no query
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		long queries = statistics.getQueryExecutionCount();
+		mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified());
+		assertThat(statistics.getQueryExecutionCount()).isEqualTo(queries);
+
+		Task task = create("listed");
+		String afterCreate = expectModified("/api/tasks", eTag);
+
+		taskService.bulkUpdateStatus(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+		String afterBulk = expectModified("/api/tasks", afterCreate);
+
+		taskService.deleteTask(task.getId());
+		expectModified("/api/tasks", afterBulk);
+	}
+
+	@Test
+	void sparseFieldsetsHaveTheirOwnTag() throws Exception {
+		String full = eTagOf("/api/tasks");
+		String sparse = eTagOf("/api/tasks?fields=id,title");
+		assertThat(sparse).isNotEqualTo(full);
+		mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, sparse))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void singleTaskFollowsItsVersion() throws Exception {
+		Task task = create("single");
+		String path = "/api/tasks/" + task.getId();
+		String eTag = eTagOf(path);
+		mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified());
+
+		Task details = new Task();
+		details.setTitle("single, renamed");
+		details.setStatus(TaskStatus.DONE);
+		taskService.updateTaskWithRetry(task.getId(), details, 1);
+		expectModified(path, eTag);
+
+		mockMvc.perform(get("/api/tasks/" + Long.MAX_VALUE)).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void userListFollowsUsersAndTheirTasks() throws Exception {
+		String eTag = eTagOf("/api/users");
+		mockMvc.perform(get("/api/users").header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified());
+
+		create("owned");
+		String afterTask = expectModified("/api/users", eTag);
+
+		User user = new User();
+		user.setUsername("etag-other-" + System.nanoTime());
+		user.setEmail("etag@example.com");
+		userRepository.save(user);
+		expectModified("/api/users", afterTask);
+	}
+
+	private Task create(String title) {
+		Task task = new Task();
+		task.setTitle(title);
+		return taskService.createTask(userId, task);
+	}
+
+	private String eTagOf(String path) throws Exception {
+		String eTag = mockMvc.perform(get(path))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(eTag).startsWith("\"");
+		return eTag;
+	}
+
+	// A full response with a new tag; returns that tag
+	private String expectModified(String path, String oldETag) throws Exception {
+		String eTag = mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, oldETag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(eTag).isNotEqualTo(oldETag);
+		mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified());
+		return eTag;
+	}
+}
@@ -0,0 +1,100 @@
+package com.example.taskmanagement.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import com.example.taskmanagement.entity.TaskPriority;
+import com.example.taskmanagement.entity.TaskSnapshot;
+import com.example.taskmanagement.entity.TaskStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class ContentNegotiationTests {
+
+	private static final String BROWSER_ACCEPT =
+			"text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,*/*;q=0.8";
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private JsonMapper jsonMapper;
+
+	@Autowired
+	private SmileMapper smileMapper;
+
+	@Autowired
+	private CBORMapper cborMapper;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+	}
+
+	@Test
+	void jsonIsTheDefaultWithoutAcceptHeader() throws Exception {
+		mockMvc.perform(get("/api/tags"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+	}
+
+	@Test
+	void jsonIsTheDefaultForWildcardAccept() throws Exception {
+		mockMvc.perform(get("/api/tags").accept(MediaType.ALL))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+	}
+
+	@Test
+	void jsonIsTheDefaultForBrowserAccept() throws Exception {
+		mockMvc.perform(get("/api/tags").header("Accept", BROWSER_ACCEPT))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+	}
+
+	@Test
+	void binaryFormatsAreServedWhenAskedFor() throws Exception {
+		for (String type : new String[]{"application/x-jackson-smile", "application/cbor",
+				"application/vnd.columnar+json"}) {
+			mockMvc.perform(get("/api/tags").accept(MediaType.parseMediaType(type)))
+					.andExpect(status().isOk())
+					.andExpect(content().contentTypeCompatibleWith(MediaType.parseMediaType(type)));
+		}
+	}
+
+	@Test
+	void columnarIsWrittenByTheColumnarConverter() throws Exception {
+		mockMvc.perform(get("/api/tags").accept(ColumnarJsonHttpMessageConverter.COLUMNAR_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.columns").isArray())
+				.andExpect(jsonPath("$.rows").isArray());
+	}
+
+	@Test
+	void binaryMappersSerializeLikeTheJsonMapper() {
+		TaskSnapshot snapshot = new TaskSnapshot(7L, "Write report", null, TaskStatus.IN_PROGRESS,
+				TaskPriority.HIGH, 3L, 2L, LocalDateTime.of(2024, 5, 1, 12, 30), null, Set.of("ops"));
+		var json = jsonMapper.readTree(jsonMapper.writeValueAsBytes(snapshot));
+
+		assertThat(smileMapper.readTree(smileMapper.writeValueAsBytes(snapshot))).isEqualTo(json);
+		assertThat(cborMapper.readTree(cborMapper.writeValueAsBytes(snapshot))).isEqualTo(json);
+	}
+}